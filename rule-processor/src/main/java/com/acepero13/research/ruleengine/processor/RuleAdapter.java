@@ -0,0 +1,283 @@
+package com.acepero13.research.ruleengine.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Source of the adapter generated for one {@code @Rule} class. The adapter lives in the package of the rule, so it
+ * can call package-private classes and methods directly.
+ */
+final class RuleAdapter {
+    private static final String RULE_TYPE = "com.acepero13.research.ruleengine.api.Rule";
+    /**
+     * Adapters extend it, so they are equal to the rules built at runtime with the same name, description and
+     * priority.
+     */
+    private static final String BASE_TYPE = "com.acepero13.research.ruleengine.model.rules.BasicRule";
+    private static final String HELPER = "com.acepero13.research.ruleengine.core.proxy.AnnotationHelper";
+    private static final String FACT_KEY = "com.acepero13.research.ruleengine.model.FactKey";
+
+    private final String packageName;
+    private final String simpleName;
+    private final String targetType;
+    private final String name;
+    private final int priority;
+    private final String description;
+    private final boolean reorderable;
+    private final String condition;
+    private final String action;
+    private final Map<String, FactKeyField> factKeys;
+
+    private RuleAdapter(String packageName, String simpleName, String targetType, String name, int priority,
+                        String description, boolean reorderable, String condition, String action,
+                        Map<String, FactKeyField> factKeys) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.targetType = targetType;
+        this.name = name;
+        this.priority = priority;
+        this.description = description;
+        this.reorderable = reorderable;
+        this.condition = condition;
+        this.action = action;
+        this.factKeys = factKeys;
+    }
+
+    static RuleAdapter from(TypeElement type, TypeElement ruleAnnotation, ProcessingEnvironment env) {
+        String packageName = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = env.getElementUtils().getBinaryName(type).toString();
+        String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        AnnotationMirror annotation = RuleProcessor.findAnnotation(type, ruleAnnotation.getQualifiedName().toString())
+                                                   .orElseThrow();
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                env.getElementUtils().getElementValuesWithDefaults(annotation);
+
+        Optional<ExecutableElement> conditionMethod = findMethod(type, RuleProcessor.CONDITION_ANNOTATION);
+        Optional<ExecutableElement> actionMethod = findMethod(type, RuleProcessor.ACTION_ANNOTATION);
+        // Fact keys are resolved once, in static fields shared by the condition and the action
+        Map<String, FactKeyField> factKeys = new LinkedHashMap<>();
+        String condition = conditionMethod.map(m -> conditionBody(m, env, factKeys)).orElse("return false;");
+        String action = actionMethod.map(m -> actionBody(m, env, factKeys)).orElse("");
+
+        return new RuleAdapter(packageName, localName.replace('$', '_') + "RuleAdapter",
+                type.getQualifiedName().toString(),
+                (String) attribute(values, "name"), (Integer) attribute(values, "priority"),
+                (String) attribute(values, "description"), (Boolean) attribute(values, "reorderable"),
+                condition, action, factKeys);
+    }
+
+    String qualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String source() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(RuleProcessor.class.getName()).append("\")\n")
+              .append("public final class ").append(simpleName).append(" extends ").append(BASE_TYPE).append(" {\n")
+              .append("    private static final String NAME = ").append(literal(name)).append(";\n")
+              .append("    private static final String DESCRIPTION = ").append(literal(description)).append(";\n")
+              .append("    private static final int PRIORITY = ").append(priority).append(";\n");
+        for (FactKeyField key : factKeys.values()) {
+            source.append("    private static final ").append(FACT_KEY).append("<").append(key.type).append("> ")
+                  .append(key.name).append(" = ").append(key.initializer).append(";\n");
+        }
+        source.append("\n")
+              .append("    private final ").append(targetType).append(" target;\n\n")
+              .append("    public ").append(simpleName).append("(").append(targetType).append(" target) {\n")
+              .append("        super(NAME, DESCRIPTION, PRIORITY);\n")
+              .append("        this.target = java.util.Objects.requireNonNull(target, \"Rule cannot be null\");\n")
+              .append("    }\n\n")
+              .append("    public static ").append(RULE_TYPE).append(" adapt(Object target) {\n")
+              .append("        return new ").append(simpleName).append("((").append(targetType).append(") target);\n")
+              .append("    }\n\n");
+        if (reorderable) {
+            source.append("    @Override\n")
+                  .append("    public boolean reorderable() {\n")
+                  .append("        return true;\n")
+                  .append("    }\n\n");
+        }
+        source.append("    @Override\n")
+              .append("    @SuppressWarnings(\"unchecked\")\n")
+              .append("    public boolean evaluates(com.acepero13.research.ruleengine.api.Facts facts) {\n")
+              .append("        ").append(condition).append("\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    @SuppressWarnings(\"unchecked\")\n")
+              .append("    public void execute(com.acepero13.research.ruleengine.api.Facts facts) throws Exception {\n");
+        if (!action.isEmpty()) {
+            source.append("        ").append(action).append("\n");
+        }
+        source.append("    }\n")
+              .append("}\n");
+        return source.toString();
+    }
+
+    private static Optional<ExecutableElement> findMethod(TypeElement type, String annotation) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                            .filter(m -> RuleProcessor.hasAnnotation(m, annotation))
+                            .findFirst();
+    }
+
+    private static String conditionBody(ExecutableElement method, ProcessingEnvironment env,
+                                        Map<String, FactKeyField> factKeys) {
+        String call = invocation(method, env, factKeys);
+        String result = method.getReturnType().getKind() == TypeKind.BOOLEAN ? call : "Boolean.TRUE.equals(" + call + ")";
+        if (method.getThrownTypes().isEmpty()) {
+            return "return " + result + ";";
+        }
+        // evaluates() cannot throw checked exceptions
+        return "try {\n"
+                + "            return " + result + ";\n"
+                + "        } catch (RuntimeException | Error e) {\n"
+                + "            throw e;\n"
+                + "        } catch (Throwable e) {\n"
+                + "            throw new RuntimeException(e);\n"
+                + "        }";
+    }
+
+    private static String actionBody(ExecutableElement method, ProcessingEnvironment env,
+                                     Map<String, FactKeyField> factKeys) {
+        String call = invocation(method, env, factKeys);
+        TypeMirror exception = env.getElementUtils().getTypeElement("java.lang.Exception").asType();
+        boolean throwsThrowable = method.getThrownTypes().stream()
+                                        .anyMatch(t -> !env.getTypeUtils().isAssignable(t, exception));
+        if (!throwsThrowable) {
+            return call + ";";
+        }
+        return "try {\n"
+                + "            " + call + ";\n"
+                + "        } catch (Exception | Error e) {\n"
+                + "            throw e;\n"
+                + "        } catch (Throwable e) {\n"
+                + "            throw new RuntimeException(e);\n"
+                + "        }";
+    }
+
+    private static String invocation(ExecutableElement method, ProcessingEnvironment env,
+                                     Map<String, FactKeyField> factKeys) {
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters()) {
+            arguments.add(argument(method, parameter, env, factKeys));
+        }
+        String receiver = method.getModifiers().contains(Modifier.STATIC)
+                ? ((TypeElement) method.getEnclosingElement()).getQualifiedName().toString()
+                : "target";
+        return receiver + "." + method.getSimpleName() + "(" + String.join(", ", arguments) + ")";
+    }
+
+    private static String argument(ExecutableElement method, VariableElement parameter, ProcessingEnvironment env,
+                                   Map<String, FactKeyField> factKeys) {
+        Types types = env.getTypeUtils();
+        TypeMirror type = parameter.asType();
+        Optional<? extends AnnotationMirror> fact = RuleProcessor.findAnnotation(parameter, RuleProcessor.FACT_ANNOTATION);
+        if (fact.isPresent()) {
+            String factName = (String) attribute(fact.get().getElementValues(), "value");
+            switch (type.getKind()) {
+                case INT:
+                    return HELPER + ".requireInt(facts, " + literal(factName) + ")";
+                case LONG:
+                    return HELPER + ".requireLong(facts, " + literal(factName) + ")";
+                case DOUBLE:
+                    return HELPER + ".requireDouble(facts, " + literal(factName) + ")";
+                default:
+                    break;
+            }
+            TypeMirror boxed = type.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) type).asType() : type;
+            String erased = types.erasure(boxed).toString();
+            String constant = factKeyConstant(factKeys, literal(factName), erased);
+            String lookup = HELPER + ".requireFact(facts, " + constant + ")";
+            return erased.equals(boxed.toString()) ? lookup : "(" + boxed + ") " + lookup;
+        }
+        TypeMirror factBase = env.getElementUtils().getTypeElement(RuleProcessor.FACTS_TYPE).asType();
+        if (types.isAssignable(factBase, type)) {
+            return "facts";
+        }
+        throw new InvalidRuleException("Parameter " + parameter.getSimpleName() + " of " + method.getSimpleName()
+                + " is neither a @Fact nor the fact base", parameter);
+    }
+
+    /**
+     * Name of the static field holding the key of the given fact, adding its declaration if it is new.
+     */
+    private static String factKeyConstant(Map<String, FactKeyField> factKeys, String factName, String type) {
+        String initializer = FACT_KEY + ".of(" + factName + ", " + type + ".class)";
+        return factKeys.computeIfAbsent(initializer, i -> new FactKeyField("FACT_" + factKeys.size(), type, i)).name;
+    }
+
+    private static Object attribute(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String attribute) {
+        return values.entrySet().stream()
+                     .filter(e -> e.getKey().getSimpleName().contentEquals(attribute))
+                     .findFirst()
+                     .map(e -> e.getValue().getValue())
+                     .orElseThrow();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    static final class InvalidRuleException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        InvalidRuleException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+
+        Element element() {
+            return element;
+        }
+    }
+
+    private static final class FactKeyField {
+        private final String name;
+        private final String type;
+        private final String initializer;
+
+        private FactKeyField(String name, String type, String initializer) {
+            this.name = name;
+            this.type = type;
+            this.initializer = initializer;
+        }
+    }
+}
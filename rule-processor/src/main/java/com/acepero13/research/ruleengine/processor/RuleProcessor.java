@@ -0,0 +1,165 @@
+package com.acepero13.research.ruleengine.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates, for every class annotated with {@code @Rule}, an {@code api.Rule} adapter that calls the
+ * {@code @Condition} and {@code @Action} methods directly with typed fact lookups, plus one registry of all adapters
+ * that {@code RuleBuilder.of} discovers through {@link java.util.ServiceLoader}.
+ * <p>
+ * Classes the generated code cannot call (private or non-static nested classes, private methods) are skipped with a
+ * note; they keep working through the runtime compiler.
+ */
+@SupportedAnnotationTypes(RuleProcessor.RULE_ANNOTATION)
+@SupportedOptions(RuleProcessor.REGISTRY_PACKAGE_OPTION)
+public class RuleProcessor extends AbstractProcessor {
+    static final String RULE_ANNOTATION = "com.acepero13.research.ruleengine.annotations.Rule";
+    static final String CONDITION_ANNOTATION = "com.acepero13.research.ruleengine.annotations.Condition";
+    static final String ACTION_ANNOTATION = "com.acepero13.research.ruleengine.annotations.Action";
+    static final String FACT_ANNOTATION = "com.acepero13.research.ruleengine.annotations.Fact";
+    static final String FACTS_TYPE = "com.acepero13.research.ruleengine.api.Facts";
+    static final String REGISTRY_PACKAGE_OPTION = "ruleengine.registryPackage";
+    static final String DEFAULT_REGISTRY_PACKAGE = "com.acepero13.research.ruleengine.generated";
+    static final String REGISTRY_NAME = "GeneratedRuleRegistry";
+    private static final String ADAPTER_FACTORY = "com.acepero13.research.ruleengine.core.proxy.RuleAdapterFactory";
+
+    private final Map<String, String> adapters = new TreeMap<>();
+    private boolean registryWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement ruleAnnotation = processingEnv.getElementUtils().getTypeElement(RULE_ANNOTATION);
+        Set<TypeElement> rules = ruleAnnotation == null
+                ? Set.of()
+                : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(ruleAnnotation));
+        for (TypeElement type : rules) {
+            generateAdapter(type, ruleAnnotation);
+        }
+        // The registry is written once no more rules show up, so that it is still compiled in a regular round
+        if (rules.isEmpty() && !adapters.isEmpty() && !registryWritten) {
+            generateRegistry();
+            registryWritten = true;
+        }
+        return false;
+    }
+
+    private void generateAdapter(TypeElement type, TypeElement ruleAnnotation) {
+        Optional<String> unsupported = unsupportedReason(type);
+        if (unsupported.isPresent()) {
+            note(type, "No adapter generated: " + unsupported.get() + ". The rule is compiled at runtime instead");
+            return;
+        }
+        try {
+            RuleAdapter adapter = RuleAdapter.from(type, ruleAnnotation, processingEnv);
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(adapter.qualifiedName(), type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(adapter.source());
+            }
+            adapters.put(processingEnv.getElementUtils().getBinaryName(type).toString(), adapter.qualifiedName());
+        } catch (RuleAdapter.InvalidRuleException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write rule adapter: " + e.getMessage(), type);
+        }
+    }
+
+    private Optional<String> unsupportedReason(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS) {
+            return Optional.of("@Rule is only supported on classes");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return Optional.of("the class is generic");
+        }
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return Optional.of("the class is not visible from its package");
+            }
+            Element enclosing = current.getEnclosingElement();
+            if (enclosing.getKind() != ElementKind.PACKAGE && !current.getModifiers().contains(Modifier.STATIC)) {
+                return Optional.of("the class is an inner (non-static) class");
+            }
+            current = enclosing;
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if ((hasAnnotation(method, CONDITION_ANNOTATION) || hasAnnotation(method, ACTION_ANNOTATION))
+                    && method.getModifiers().contains(Modifier.PRIVATE)) {
+                return Optional.of("method " + method.getSimpleName() + " is private");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void generateRegistry() {
+        String registryPackage = processingEnv.getOptions().getOrDefault(REGISTRY_PACKAGE_OPTION, DEFAULT_REGISTRY_PACKAGE);
+        String registryName = registryPackage + "." + REGISTRY_NAME;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(registryName);
+            try (Writer writer = file.openWriter()) {
+                writer.write(registrySource(registryPackage));
+            }
+            FileObject services = processingEnv.getFiler()
+                                               .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + ADAPTER_FACTORY);
+            try (Writer writer = services.openWriter()) {
+                writer.write(registryName + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write rule registry: " + e.getMessage());
+        }
+    }
+
+    private String registrySource(String registryPackage) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(registryPackage).append(";\n\n")
+              .append("@javax.annotation.processing.Generated(\"").append(RuleProcessor.class.getName()).append("\")\n")
+              .append("public final class ").append(REGISTRY_NAME).append(" implements ").append(ADAPTER_FACTORY).append(" {\n")
+              .append("    private static final java.util.Map<String, java.util.function.Function<Object, com.acepero13.research.ruleengine.api.Rule>> ADAPTERS = java.util.Map.ofEntries(\n");
+        Iterator<Map.Entry<String, String>> entries = adapters.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, String> entry = entries.next();
+            source.append("            java.util.Map.entry(\"").append(entry.getKey()).append("\", ")
+                  .append(entry.getValue()).append("::adapt)")
+                  .append(entries.hasNext() ? ",\n" : "\n");
+        }
+        source.append("    );\n\n")
+              .append("    public static java.util.Set<String> ruleClassNames() {\n")
+              .append("        return ADAPTERS.keySet();\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public java.util.Optional<com.acepero13.research.ruleengine.api.Rule> adapt(Object target) {\n")
+              .append("        java.util.function.Function<Object, com.acepero13.research.ruleengine.api.Rule> adapter = ADAPTERS.get(target.getClass().getName());\n")
+              .append("        return adapter == null ? java.util.Optional.empty() : java.util.Optional.of(adapter.apply(target));\n")
+              .append("    }\n")
+              .append("}\n");
+        return source.toString();
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+
+    static boolean hasAnnotation(Element element, String annotation) {
+        return findAnnotation(element, annotation).isPresent();
+    }
+
+    static Optional<? extends AnnotationMirror> findAnnotation(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream()
+                      .filter(m -> ((TypeElement) m.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+                      .findFirst();
+    }
+}
@@ -0,0 +1,130 @@
+package com.acepero13.research.ruleengine.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleProcessorTest {
+    @TempDir
+    Path dir;
+
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    @Test
+    void generatesAdapterAndRegistry() throws IOException {
+        boolean compiled = compile("rules/Fizz.java",
+                "package rules;\n"
+                        + "import com.acepero13.research.ruleengine.annotations.*;\n"
+                        + "@Rule(name = \"fizz\", priority = 3)\n"
+                        + "public class Fizz {\n"
+                        + "    @Condition boolean when(@Fact(\"number\") int number) { return number % 3 == 0; }\n"
+                        + "    @Action void then(com.acepero13.research.ruleengine.api.Facts facts) { facts.put(\"fizz\", true); }\n"
+                        + "    @Rule static class Inner {\n"
+                        + "        @Condition boolean when(@Fact(\"names\") java.util.List<String> names) { return names.isEmpty(); }\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertTrue(compiled, this::errors);
+        assertTrue(Files.exists(dir.resolve("rules/FizzRuleAdapter.class")));
+        assertTrue(Files.exists(dir.resolve("rules/Fizz_InnerRuleAdapter.class")));
+        String registry = Files.readString(dir.resolve("com/acepero13/research/ruleengine/generated/GeneratedRuleRegistry.java"));
+        assertTrue(registry.contains("\"rules.Fizz\", rules.FizzRuleAdapter::adapt"));
+        assertTrue(registry.contains("\"rules.Fizz$Inner\", rules.Fizz_InnerRuleAdapter::adapt"));
+        assertEquals("com.acepero13.research.ruleengine.generated.GeneratedRuleRegistry",
+                Files.readString(dir.resolve("META-INF/services/com.acepero13.research.ruleengine.core.proxy.RuleAdapterFactory")).trim());
+    }
+
+    @Test
+    void registryPackageCanBeConfigured() {
+        boolean compiled = compile(List.of("-Aruleengine.registryPackage=my.rules"), "rules/Buzz.java",
+                "package rules;\n"
+                        + "@com.acepero13.research.ruleengine.annotations.Rule\n"
+                        + "class Buzz {}\n");
+
+        assertTrue(compiled, this::errors);
+        assertTrue(Files.exists(dir.resolve("my/rules/GeneratedRuleRegistry.class")));
+    }
+
+    @Test
+    void reorderableRulesSayItInTheirAdapter() throws IOException {
+        boolean compiled = compile("rules/Cheap.java",
+                "package rules;\n"
+                        + "@com.acepero13.research.ruleengine.annotations.Rule(reorderable = true)\n"
+                        + "public class Cheap {}\n");
+
+        assertTrue(compiled, this::errors);
+        assertTrue(Files.readString(dir.resolve("rules/CheapRuleAdapter.java")).contains("public boolean reorderable()"));
+    }
+
+    @Test
+    void privateRulesAreLeftToTheRuntimeCompiler() {
+        boolean compiled = compile("rules/Outer.java",
+                "package rules;\n"
+                        + "import com.acepero13.research.ruleengine.annotations.*;\n"
+                        + "public class Outer {\n"
+                        + "    @Rule private static class Hidden {}\n"
+                        + "    @Rule class NotStatic {}\n"
+                        + "}\n");
+
+        assertTrue(compiled, this::errors);
+        assertFalse(Files.exists(dir.resolve("rules/Outer_HiddenRuleAdapter.class")));
+        assertFalse(Files.exists(dir.resolve("rules/Outer_NotStaticRuleAdapter.class")));
+        assertEquals(2, diagnostics.getDiagnostics().stream()
+                                   .filter(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                                   .filter(d -> d.getMessage(null).contains("No adapter generated"))
+                                   .count());
+    }
+
+    @Test
+    void parametersThatCannotBeResolvedAreErrors() {
+        boolean compiled = compile("rules/Broken.java",
+                "package rules;\n"
+                        + "import com.acepero13.research.ruleengine.annotations.*;\n"
+                        + "@Rule class Broken {\n"
+                        + "    @Condition boolean when(String unknown) { return true; }\n"
+                        + "}\n");
+
+        assertFalse(compiled);
+        assertTrue(errors().contains("neither a @Fact nor the fact base"), errors());
+    }
+
+    private boolean compile(String fileName, String source) {
+        return compile(List.of(), fileName, source);
+    }
+
+    private boolean compile(List<String> extraOptions, String fileName, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            Path file = dir.resolve(fileName);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source);
+            List<String> options = new ArrayList<>(List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", dir.toString(),
+                    "-s", dir.toString()));
+            options.addAll(extraOptions);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(file));
+            task.setProcessors(List.of(new RuleProcessor()));
+            return task.call();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String errors() {
+        return diagnostics.getDiagnostics().stream()
+                          .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                          .map(d -> d.getMessage(null))
+                          .collect(Collectors.joining("\n"));
+    }
+}
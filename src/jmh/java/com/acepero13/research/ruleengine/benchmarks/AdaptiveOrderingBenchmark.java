@@ -0,0 +1,70 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifying requests with {@link DefaultRuleEngine} and {@code skipOnFirstAppliedRule}, with rules of the same
+ * priority evaluated in registration order and with {@code adaptiveOrdering}. The rule that matches nine requests
+ * out of ten is registered last, as happens when rules are added over time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdaptiveOrderingBenchmark {
+    @Param({"20", "200"})
+    private int rules;
+
+    private DefaultRuleEngine fixed;
+    private DefaultRuleEngine adaptive;
+    private Facts[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Rule[] classifiers = new Rule[rules];
+        for (int i = 0; i < rules; i++) {
+            String kind = "kind" + i;
+            classifiers[i] = new RuleBuilder().name(kind)
+                                              .priority(1)
+                                              .when(f -> kind.equals(f.get("kind", String.class, "")))
+                                              .then(f -> f.put("class", kind))
+                                              .build();
+        }
+        fixed = new DefaultRuleEngine(new Rules(classifiers),
+                EngineParameters.builder().skipOnFirstAppliedRule(true).build());
+        adaptive = new DefaultRuleEngine(new Rules(classifiers),
+                EngineParameters.builder().skipOnFirstAppliedRule(true).adaptiveOrdering(true).build());
+
+        requests = new Facts[100];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new IndexedFacts();
+            requests[i].put("kind", "kind" + (i % 10 == 0 ? i % rules : rules - 1));
+        }
+    }
+
+    @Benchmark
+    public Facts registrationOrder() {
+        Facts facts = requests[next++ % requests.length];
+        fixed.fire(facts);
+        return facts;
+    }
+
+    @Benchmark
+    public Facts adaptiveOrder() {
+        Facts facts = requests[next++ % requests.length];
+        adaptive.fire(facts);
+        return facts;
+    }
+}
@@ -0,0 +1,66 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.RuleEngine;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.batch.BatchEngine;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to score many small FizzBuzz fact bases, one {@code fire} at a time on a single engine versus through
+ * {@link BatchEngine}, either collecting every outcome or streaming them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BatchBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int records;
+
+    private Rules rules;
+    private List<Facts> facts;
+
+    @Setup
+    public void setUp() {
+        rules = Scenarios.FIZZ_BUZZ.rules(4);
+        facts = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            Facts record = new InMemoryFacts();
+            Scenarios.FIZZ_BUZZ.prepare(record, i);
+            facts.add(record);
+        }
+    }
+
+    @Benchmark
+    public void sequential(Blackhole bh) {
+        RuleEngine engine = new DefaultRuleEngine(rules);
+        for (Facts record : facts) {
+            engine.fire(record);
+            bh.consume(record);
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole bh) {
+        bh.consume(new BatchEngine(DefaultRuleEngine::new).fireAll(rules, facts));
+    }
+
+    /**
+     * Consumes the outcomes as they are produced instead of collecting them all, as a streaming job would.
+     */
+    @Benchmark
+    public void batchStream(Blackhole bh) {
+        new BatchEngine(DefaultRuleEngine::new).fireAll(rules, facts.stream()).forEach(bh::consume);
+    }
+}
@@ -0,0 +1,87 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.ConcurrentFacts;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * One fact base shared by several threads: {@link ConcurrentFacts} against fact bases behind a global lock. The
+ * number of threads can be changed with {@code -t}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ContendedFactsBenchmark {
+
+    @Param({"100", "1000"})
+    private int factCount;
+
+    @Param({"CONCURRENT", "SYNCHRONIZED_IN_MEMORY", "SYNCHRONIZED_INDEXED"})
+    private FactsType type;
+
+    private Facts facts;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        facts = type.create();
+        names = new String[factCount];
+        for (int i = 0; i < factCount; i++) {
+            names[i] = "fact-" + i;
+            facts.put(names[i], i);
+        }
+    }
+
+    private String randomName() {
+        return names[ThreadLocalRandom.current().nextInt(factCount)];
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        bh.consume(facts.get(randomName(), Integer.class, -1));
+    }
+
+    @Benchmark
+    public void updatesIfExists() {
+        facts.updatesIfExists(randomName(), Integer.class, v -> v + 1);
+    }
+
+    /**
+     * Mostly reads with some updates, as when several actions share the fact base.
+     */
+    @Benchmark
+    public void mixed(Blackhole bh) {
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            facts.updatesIfExists(randomName(), Integer.class, v -> v + 1);
+        } else {
+            bh.consume(facts.get(randomName(), Integer.class, -1));
+        }
+    }
+
+    public enum FactsType {
+        CONCURRENT(ConcurrentFacts::new),
+        SYNCHRONIZED_IN_MEMORY(() -> new SynchronizedFacts(new InMemoryFacts())),
+        SYNCHRONIZED_INDEXED(() -> new SynchronizedFacts(new IndexedFacts()));
+
+        private final Supplier<Facts> factory;
+
+        FactsType(Supplier<Facts> factory) {
+            this.factory = factory;
+        }
+
+        Facts create() {
+            return factory.get();
+        }
+    }
+}
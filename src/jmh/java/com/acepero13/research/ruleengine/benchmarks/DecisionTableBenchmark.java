@@ -0,0 +1,68 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.DecisionTable;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving the first matching row of an equality table: as plain rules walked by {@link DefaultRuleEngine} with
+ * {@code skipOnFirstAppliedRule}, and as the same rules compiled into a {@link DecisionTable}. The facts match a row
+ * near the end of the table, which is the worst case for the linear walk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisionTableBenchmark {
+    @Param({"1000", "50000"})
+    private int rows;
+
+    private DefaultRuleEngine linear;
+    private DefaultRuleEngine indexed;
+    private Facts facts;
+
+    @Setup
+    public void setUp() {
+        Rule[] table = new Rule[rows];
+        for (int i = 0; i < rows; i++) {
+            int cost = i;
+            table[i] = new RuleBuilder().name("row " + i)
+                                        .priority(rows - i)
+                                        .givenEquals("country", "C" + (i / 10))
+                                        .givenEquals("tier", "T" + (i % 10))
+                                        .then(f -> f.put("cost", cost))
+                                        .build();
+        }
+        Rules rules = new Rules(table);
+        EngineParameters parameters = EngineParameters.builder().skipOnFirstAppliedRule(true).build();
+        linear = new DefaultRuleEngine(rules, parameters);
+        indexed = new DefaultRuleEngine(Rules.of(DecisionTable.compile("table", rules)), parameters);
+
+        facts = new IndexedFacts();
+        int last = rows - 3;
+        facts.put("country", "C" + (last / 10));
+        facts.put("tier", "T" + (last % 10));
+    }
+
+    @Benchmark
+    public Facts linearRules() {
+        linear.fire(facts);
+        return facts;
+    }
+
+    @Benchmark
+    public Facts decisionTable() {
+        indexed.fire(facts);
+        return facts;
+    }
+}
@@ -0,0 +1,77 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.RuleEngine;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.core.engines.ForwardChainEngine;
+import com.acepero13.research.ruleengine.core.engines.ForwardChainEngine.ForwardChainEngineParameters;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Throughput of a complete {@code fire} for each engine, scenario, rule count and fact count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({"DEFAULT", "FORWARD_CHAIN", "FORWARD_CHAIN_PARALLEL"})
+    private EngineType engine;
+
+    @Param({"FIZZ_BUZZ", "TEMPERATURE"})
+    private Scenarios scenario;
+
+    @Param({"4", "64", "512", "2048"})
+    private int ruleCount;
+
+    @Param({"1", "100", "1000"})
+    private int factCount;
+
+    private RuleEngine ruleEngine;
+    private Facts facts;
+    private int iteration;
+
+    @Setup
+    public void setUp() {
+        ruleEngine = engine.create(scenario.rules(ruleCount));
+        facts = new InMemoryFacts();
+        Scenarios.fill(facts, factCount);
+    }
+
+    @Benchmark
+    public Facts fire() {
+        scenario.prepare(facts, iteration++);
+        ruleEngine.fire(facts);
+        return facts;
+    }
+
+    public enum EngineType {
+        // Evaluates every rule on each fire, as the FizzBuzz test does
+        DEFAULT(rules -> new DefaultRuleEngine(rules, EngineParameters.builder().build())),
+        FORWARD_CHAIN(ForwardChainEngine::new),
+        FORWARD_CHAIN_PARALLEL(rules -> new ForwardChainEngine(rules, ForwardChainEngineParameters.builder()
+                .considerNewFacts(true)
+                .considerUpdatesFacts(true)
+                .parallelEvaluation(true)
+                .build()));
+
+        private final Function<Rules, RuleEngine> factory;
+
+        EngineType(Function<Rules, RuleEngine> factory) {
+            this.factory = factory;
+        }
+
+        RuleEngine create(Rules rules) {
+            return factory.apply(rules);
+        }
+    }
+}
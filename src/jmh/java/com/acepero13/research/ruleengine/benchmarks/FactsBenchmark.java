@@ -0,0 +1,105 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.ConcurrentFacts;
+import com.acepero13.research.ruleengine.model.FactKey;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.KeyedFacts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares how fact lookups and updates scale with the size of the fact base for every
+ * {@link Facts} implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactsBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int factCount;
+
+    @Param({"IN_MEMORY", "INDEXED", "CONCURRENT", "KEYED"})
+    private FactsType type;
+
+    private Facts facts;
+    private String[] names;
+    private FactKey<Integer>[] keys;
+
+    @Setup
+    public void setUp() {
+        facts = type.create();
+        names = new String[factCount];
+        keys = newKeyArray(factCount);
+        for (int i = 0; i < factCount; i++) {
+            names[i] = "fact-" + i;
+            keys[i] = FactKey.of(names[i], Integer.class);
+            facts.put(names[i], i);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FactKey<Integer>[] newKeyArray(int size) {
+        return (FactKey<Integer>[]) new FactKey<?>[size];
+    }
+
+    private String randomName() {
+        return names[ThreadLocalRandom.current().nextInt(factCount)];
+    }
+
+    private FactKey<Integer> randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(factCount)];
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        bh.consume(facts.get(randomName(), Integer.class, -1));
+    }
+
+    @Benchmark
+    public void getByKey(Blackhole bh) {
+        bh.consume(facts.get(randomKey(), -1));
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return facts.exists(randomName());
+    }
+
+    @Benchmark
+    public void put() {
+        String name = randomName();
+        facts.put(name, ThreadLocalRandom.current().nextInt());
+    }
+
+    @Benchmark
+    public void updatesIfExists() {
+        facts.updatesIfExists(randomName(), Integer.class, v -> v + 1);
+    }
+
+    public enum FactsType {
+        IN_MEMORY(InMemoryFacts::new),
+        INDEXED(IndexedFacts::new),
+        CONCURRENT(ConcurrentFacts::new),
+        KEYED(KeyedFacts::new);
+
+        private final Supplier<Facts> factory;
+
+        FactsType(Supplier<Facts> factory) {
+            this.factory = factory;
+        }
+
+        Facts create() {
+            return factory.get();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.engines.rete.ReteEngine;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.NumericCondition;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pricing-like rule set of narrow ranges over one numeric fact, fired by the Rete engine: as opaque lambdas, which
+ * are all re-evaluated on every change, and as {@link NumericCondition}s, which the network indexes by interval. A
+ * driver rule changes the fact {@link #CHANGES} times per fire, so the figures are dominated by propagation rather
+ * than by compiling the network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericRangeBenchmark {
+    private static final int CHANGES = 1000;
+
+    @Param({"10000"})
+    private int rules;
+
+    private ReteEngine opaque;
+    private ReteEngine indexed;
+    private int amount;
+
+    @Setup
+    public void setUp() {
+        Rule[] lambdas = new Rule[rules + 1];
+        Rule[] ranges = new Rule[rules + 1];
+        for (int i = 0; i < rules; i++) {
+            double low = i * 10;
+            double high = low + 15;
+            lambdas[i] = new RuleBuilder().name("lambda " + i)
+                                          .when(f -> {
+                                              double value = f.get("amount", Integer.class, -1);
+                                              return value >= low && value <= high;
+                                          })
+                                          .then(f -> {
+                                          })
+                                          .build();
+            ranges[i] = new RuleBuilder().name("range " + i)
+                                         .when(NumericCondition.between("amount", low, high))
+                                         .then(f -> {
+                                         })
+                                         .build();
+        }
+        lambdas[rules] = driver();
+        ranges[rules] = driver();
+        opaque = new ReteEngine(new Rules(lambdas));
+        indexed = new ReteEngine(new Rules(ranges));
+    }
+
+    /**
+     * Moves the amount to another range while there are changes left. Lowest priority, so the ranges fire first.
+     */
+    private Rule driver() {
+        return new RuleBuilder().name("driver")
+                                .priority(Integer.MIN_VALUE)
+                                .when(f -> f.get("changes", Integer.class, 0) > 0)
+                                .then(f -> {
+                                    f.put("changes", f.get("changes", Integer.class, 0) - 1);
+                                    amount = (amount + 7919) % (rules * 10);
+                                    f.put("amount", amount);
+                                })
+                                .build();
+    }
+
+    private Facts nextFacts() {
+        Facts facts = new IndexedFacts();
+        facts.put("changes", CHANGES);
+        facts.put("amount", amount);
+        return facts;
+    }
+
+    @Benchmark
+    public Facts opaqueRanges() {
+        Facts facts = nextFacts();
+        opaque.fire(facts);
+        return facts;
+    }
+
+    @Benchmark
+    public Facts indexedRanges() {
+        Facts facts = nextFacts();
+        indexed.fire(facts);
+        return facts;
+    }
+}
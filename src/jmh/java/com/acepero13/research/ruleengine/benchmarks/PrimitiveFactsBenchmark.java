@@ -0,0 +1,54 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Numeric facts read and written through the generic accessors (boxed) and through the primitive ones. Run it with
+ * {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveFactsBenchmark {
+    private static final String COUNTER = "counter";
+    private static final String TEMPERATURE = "temperature";
+
+    private final Facts boxed = new IndexedFacts();
+    private final Facts primitive = new IndexedFacts();
+    private int next = 1_000;
+
+    @Setup
+    public void setUp() {
+        boxed.put(COUNTER, 1_000);
+        boxed.put(TEMPERATURE, 21.5);
+        primitive.putInt(COUNTER, 1_000);
+        primitive.putDouble(TEMPERATURE, 21.5);
+    }
+
+    @Benchmark
+    public boolean boxedCondition() {
+        return boxed.get(COUNTER, Integer.class, 0) % 7 == 0 && boxed.get(TEMPERATURE, Double.class, 0.0) > 25;
+    }
+
+    @Benchmark
+    public boolean primitiveCondition() {
+        return primitive.getInt(COUNTER, 0) % 7 == 0 && primitive.getDouble(TEMPERATURE, 0.0) > 25;
+    }
+
+    @Benchmark
+    public void boxedUpdate() {
+        boxed.put(COUNTER, next++);
+    }
+
+    @Benchmark
+    public void primitiveUpdate() {
+        primitive.putInt(COUNTER, next++);
+    }
+}
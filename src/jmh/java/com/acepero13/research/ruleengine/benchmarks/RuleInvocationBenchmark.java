@@ -0,0 +1,89 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.annotations.Action;
+import com.acepero13.research.ruleengine.annotations.Condition;
+import com.acepero13.research.ruleengine.annotations.Fact;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.proxy.AnnotatedRuleCompiler;
+import com.acepero13.research.ruleengine.core.proxy.RuleProxy;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of evaluating and executing the same FizzBuzz rule written with {@link RuleBuilder} lambdas, as an annotated
+ * class compiled at runtime and as an annotated class with a generated adapter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleInvocationBenchmark {
+
+    @Param({"BUILDER", "ANNOTATED_RUNTIME", "ANNOTATED_GENERATED"})
+    private RuleType type;
+
+    private Rule rule;
+    private Facts facts;
+    private int number;
+
+    @Setup
+    public void setUp() {
+        rule = type.create();
+        facts = new InMemoryFacts();
+        facts.put(Scenarios.NUMBER_FACT, 1);
+    }
+
+    @Benchmark
+    public boolean evaluates() {
+        facts.put(Scenarios.NUMBER_FACT, number++ % 100 + 1);
+        return rule.evaluates(facts);
+    }
+
+    @Benchmark
+    public Facts execute() throws Exception {
+        facts.put(Scenarios.NUMBER_FACT, number++ % 100 + 1);
+        rule.execute(facts);
+        return facts;
+    }
+
+    public enum RuleType {
+        BUILDER(() -> new RuleBuilder()
+                .name("fizz")
+                .priority(2)
+                .when(facts -> facts.get(Scenarios.NUMBER_FACT, Integer.class, 1) % 7 == 0)
+                .then(facts -> facts.put(Scenarios.SAID_FACT, facts.get(Scenarios.NUMBER_FACT, Integer.class, -1)))
+                .build()),
+        ANNOTATED_RUNTIME(() -> AnnotatedRuleCompiler.compile(new FizzRule())),
+        ANNOTATED_GENERATED(() -> RuleProxy.asRule(new FizzRule()));
+
+        private final Supplier<Rule> factory;
+
+        RuleType(Supplier<Rule> factory) {
+            this.factory = factory;
+        }
+
+        Rule create() {
+            return factory.get();
+        }
+    }
+
+    @com.acepero13.research.ruleengine.annotations.Rule(name = "fizz", priority = 2)
+    public static class FizzRule {
+        @Condition
+        public boolean condition(@Fact(Scenarios.NUMBER_FACT) int number) {
+            return number % 7 == 0;
+        }
+
+        @Action
+        public void action(@Fact(Scenarios.NUMBER_FACT) int number, Facts facts) {
+            facts.put(Scenarios.SAID_FACT, number);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.Rules;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of walking the registered rules in priority order, as the engines do on every fire or cycle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesIterationBenchmark {
+
+    @Param({"4", "64", "512", "4096"})
+    private int ruleCount;
+
+    private Rules rules;
+
+    @Setup
+    public void setUp() {
+        rules = Scenarios.FIZZ_BUZZ.rules(ruleCount);
+    }
+
+    @Benchmark
+    public void iterator(Blackhole bh) {
+        for (Rule rule : rules) {
+            bh.consume(rule);
+        }
+    }
+
+    @Benchmark
+    public void indexed(Blackhole bh) {
+        List<Rule> sorted = rules.sorted();
+        for (int i = 0; i < sorted.size(); i++) {
+            bh.consume(sorted.get(i));
+        }
+    }
+
+    @Benchmark
+    public void aboveThreshold(Blackhole bh) {
+        List<Rule> agenda = rules.withPriorityAtLeast(2);
+        for (int i = 0; i < agenda.size(); i++) {
+            bh.consume(agenda.get(i));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The FizzBuzz and temperature scenarios of the test suite, scaled up with filler rules and facts that never match so
+ * that the cost of the engine itself grows with the size of the rule and fact bases.
+ */
+public enum Scenarios {
+    FIZZ_BUZZ {
+        @Override
+        List<Rule> rules() {
+            Rule fizzBuzz = new RuleBuilder()
+                    .name("fizz buzz")
+                    .priority(3)
+                    .when(facts -> facts.get(NUMBER_FACT, Integer.class, 1) % 35 == 0)
+                    .then(facts -> facts.put(SAID_FACT, "fizzbuzz"))
+                    .build();
+            Rule fizz = new RuleBuilder()
+                    .name("fizz")
+                    .priority(2)
+                    .when(facts -> facts.get(NUMBER_FACT, Integer.class, 1) % 7 == 0)
+                    .then(facts -> facts.put(SAID_FACT, "fizz"))
+                    .build();
+            Rule buzz = new RuleBuilder()
+                    .name("buzz")
+                    .priority(2)
+                    .when(facts -> facts.get(NUMBER_FACT, Integer.class, 1) % 5 == 0)
+                    .then(facts -> facts.put(SAID_FACT, "buzz"))
+                    .build();
+            Rule nonFizzBuzz = new RuleBuilder()
+                    .name("neither fizz nor buzz")
+                    .priority(1)
+                    .when(facts -> {
+                        int n = facts.get(NUMBER_FACT, Integer.class, 1);
+                        return n % 5 != 0 && n % 7 != 0;
+                    })
+                    .then(facts -> facts.put(SAID_FACT, facts.get(NUMBER_FACT, Integer.class, -1)))
+                    .build();
+            return List.of(fizzBuzz, fizz, buzz, nonFizzBuzz);
+        }
+
+        @Override
+        void prepare(Facts facts, int iteration) {
+            facts.put(NUMBER_FACT, iteration % 100 + 1);
+        }
+    },
+    TEMPERATURE {
+        @Override
+        List<Rule> rules() {
+            Rule airConditioning = new RuleBuilder()
+                    .name("air conditioning")
+                    .when(facts -> facts.get(TEMPERATURE_FACT, Integer.class, -1000) > 25)
+                    .then(facts -> facts.updatesIfExists(TEMPERATURE_FACT, Integer.class, t -> t - 1))
+                    .build();
+            return List.of(airConditioning);
+        }
+
+        @Override
+        void prepare(Facts facts, int iteration) {
+            facts.put(TEMPERATURE_FACT, 30);
+        }
+    };
+
+    static final String NUMBER_FACT = "number";
+    static final String SAID_FACT = "said";
+    static final String TEMPERATURE_FACT = "temperature";
+
+    /**
+     * The rules of the scenario itself.
+     */
+    abstract List<Rule> rules();
+
+    /**
+     * Sets up the facts for the given iteration of the scenario before the engine fires.
+     */
+    abstract void prepare(Facts facts, int iteration);
+
+    /**
+     * The scenario rules plus filler rules up to the given total. Filler rules read a fact of their own that is never
+     * present, so they are evaluated but never fire.
+     */
+    Rules rules(int ruleCount) {
+        List<Rule> rules = new ArrayList<>(rules());
+        for (int i = rules.size(); i < ruleCount; i++) {
+            String factName = "filler-rule-" + i;
+            rules.add(new RuleBuilder()
+                    .name(factName)
+                    .priority(i % 4)
+                    .when(facts -> facts.exists(factName))
+                    .then(facts -> facts.remove(factName))
+                    .build());
+        }
+        return new Rules(rules.toArray(new Rule[0]));
+    }
+
+    /**
+     * Adds unrelated facts until the fact base holds the given number of facts.
+     */
+    static void fill(Facts facts, int factCount) {
+        for (int i = 0; i < factCount; i++) {
+            facts.put("filler-fact-" + i, i);
+        }
+    }
+}
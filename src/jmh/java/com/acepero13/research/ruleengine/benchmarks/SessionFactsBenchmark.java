@@ -0,0 +1,57 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.FrozenFacts;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.LayeredFacts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of preparing the facts of one request: shared reference data plus a few request facts, either copied into a
+ * new fact base or overlaid on a frozen base with {@link LayeredFacts}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionFactsBenchmark {
+
+    @Param({"100", "10000"})
+    private int referenceFacts;
+
+    private FrozenFacts reference;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < referenceFacts; i++) {
+            values.put("tariff-" + i, i);
+        }
+        reference = FrozenFacts.of(values);
+    }
+
+    @Benchmark
+    public Facts copy() {
+        Facts facts = new IndexedFacts();
+        reference.forEach(facts::add);
+        return withRequestFacts(facts);
+    }
+
+    @Benchmark
+    public Facts layered() {
+        return withRequestFacts(new LayeredFacts(reference));
+    }
+
+    private static Facts withRequestFacts(Facts facts) {
+        facts.put(Scenarios.TEMPERATURE_FACT, 30);
+        facts.put(Scenarios.NUMBER_FACT, 7);
+        facts.put("tariff-1", 2);
+        return facts;
+    }
+}
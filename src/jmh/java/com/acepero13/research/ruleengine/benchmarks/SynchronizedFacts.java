@@ -0,0 +1,122 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.ChangeSet;
+import com.acepero13.research.ruleengine.model.Fact;
+import com.acepero13.research.ruleengine.model.FactsOperation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Baseline for the contention benchmark: a fact base made thread safe with one global lock.
+ */
+final class SynchronizedFacts implements Facts {
+    private final Facts delegate;
+
+    SynchronizedFacts(Facts delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized <T> void put(String name, T value) {
+        delegate.put(name, value);
+    }
+
+    @Override
+    public synchronized void registerNotificationsFor(String name, Consumer<FactsOperation> consumer) {
+        delegate.registerNotificationsFor(name, consumer);
+    }
+
+    @Override
+    public synchronized void register(FactBaseListener listener) {
+        delegate.register(listener);
+    }
+
+    @Override
+    public synchronized void unregister(FactBaseListener listener) {
+        delegate.unregister(listener);
+    }
+
+    @Override
+    public synchronized void unregisterAll() {
+        delegate.unregisterAll();
+    }
+
+    @Override
+    public synchronized void remove(String name) {
+        delegate.remove(name);
+    }
+
+    @Override
+    public synchronized <T> void add(Fact<T> fact) {
+        delegate.add(fact);
+    }
+
+    @Override
+    public synchronized <T> Optional<T> get(String factName) {
+        return delegate.get(factName);
+    }
+
+    @Override
+    public synchronized Optional<Fact<?>> getFact(String factName) {
+        return delegate.getFact(factName);
+    }
+
+    @Override
+    public synchronized int total() {
+        return delegate.total();
+    }
+
+    @Override
+    public synchronized <T> T get(String factName, Class<T> type, T defaultValue) {
+        return delegate.get(factName, type, defaultValue);
+    }
+
+    @Override
+    public synchronized <T> Optional<T> get(String factName, Class<T> type) {
+        return delegate.get(factName, type);
+    }
+
+    @Override
+    public synchronized <T> void updatesIfExists(String factName, Class<T> type, UnaryOperator<T> func) {
+        delegate.updatesIfExists(factName, type, func);
+    }
+
+    @Override
+    public synchronized boolean exists(String factName) {
+        return delegate.exists(factName);
+    }
+
+    @Override
+    public synchronized Iterator<Fact<?>> iterator() {
+        List<Fact<?>> copy = new ArrayList<>();
+        delegate.forEach(copy::add);
+        return copy.iterator();
+    }
+
+    @Override
+    public synchronized long version() {
+        return delegate.version();
+    }
+
+    @Override
+    public synchronized long version(String factName) {
+        return delegate.version(factName);
+    }
+
+    @Override
+    public synchronized ChangeSet changesSince(long version) {
+        return delegate.changesSince(version);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return delegate.toString();
+    }
+}
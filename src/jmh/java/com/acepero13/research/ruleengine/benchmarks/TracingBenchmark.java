@@ -0,0 +1,67 @@
+package com.acepero13.research.ruleengine.benchmarks;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.RuleEngine;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.core.metrics.MetricsTracer;
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
+import com.acepero13.research.ruleengine.core.tracing.RingBufferTracer;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of tracing a {@code fire} of the {@link DefaultRuleEngine}, which evaluates every rule.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TracingBenchmark {
+
+    @Param({"NONE", "RING_BUFFER", "METRICS"})
+    private TracerType tracer;
+
+    @Param({"64"})
+    private int ruleCount;
+
+    private RuleEngine engine;
+    private Facts facts;
+    private int iteration;
+
+    @Setup
+    public void setUp() {
+        engine = new DefaultRuleEngine(Scenarios.FIZZ_BUZZ.rules(ruleCount), EngineParameters.builder()
+                .tracer(tracer.create())
+                .build());
+        facts = new InMemoryFacts();
+    }
+
+    @Benchmark
+    public Facts fire() {
+        Scenarios.FIZZ_BUZZ.prepare(facts, iteration++);
+        engine.fire(facts);
+        return facts;
+    }
+
+    public enum TracerType {
+        NONE(() -> ExecutionTracer.NONE),
+        RING_BUFFER(RingBufferTracer::new),
+        METRICS(MetricsTracer::new);
+
+        private final Supplier<ExecutionTracer> factory;
+
+        TracerType(Supplier<ExecutionTracer> factory) {
+            this.factory = factory;
+        }
+
+        ExecutionTracer create() {
+            return factory.get();
+        }
+    }
+}
@@ -11,4 +11,9 @@ public @interface Rule {
     int priority() default com.acepero13.research.ruleengine.api.Rule.DEFAULT_PRIORITY;
 
     String description() default com.acepero13.research.ruleengine.api.Rule.DEFAULT_DESCRIPTION;
+
+    /**
+     * See {@link com.acepero13.research.ruleengine.api.Rule#reorderable()}.
+     */
+    boolean reorderable() default false;
 }
@@ -3,4 +3,22 @@ package com.acepero13.research.ruleengine.api;
 @FunctionalInterface
 public interface Condition {
     boolean evaluate(Facts facts);
+
+    /**
+     * Short-circuiting conjunction: {@code other} is not evaluated when this condition is false.
+     */
+    default Condition and(Condition other) {
+        return facts -> evaluate(facts) && other.evaluate(facts);
+    }
+
+    /**
+     * Short-circuiting disjunction: {@code other} is not evaluated when this condition is true.
+     */
+    default Condition or(Condition other) {
+        return facts -> evaluate(facts) || other.evaluate(facts);
+    }
+
+    default Condition negate() {
+        return facts -> !evaluate(facts);
+    }
 }
@@ -1,6 +1,8 @@
 package com.acepero13.research.ruleengine.api;
 
+import com.acepero13.research.ruleengine.model.ChangeSet;
 import com.acepero13.research.ruleengine.model.Fact;
+import com.acepero13.research.ruleengine.model.FactKey;
 import com.acepero13.research.ruleengine.model.FactsOperation;
 
 import java.util.Optional;
@@ -37,4 +39,80 @@ public interface Facts extends Iterable<Fact<?>> {
     boolean exists(String factName);
 
     String toString();
+
+    /*
+     * Primitive accessors. The defaults box like the generic methods; implementations with primitive storage (such
+     * as IndexedFacts) override them so that numeric rules allocate nothing. A fact is only read as a primitive of
+     * its own type: getInt does not convert a long fact, just like get(name, Integer.class, defaultValue).
+     */
+
+    default void putInt(String name, int value) {
+        put(name, value);
+    }
+
+    default void putLong(String name, long value) {
+        put(name, value);
+    }
+
+    default void putDouble(String name, double value) {
+        put(name, value);
+    }
+
+    default void putBoolean(String name, boolean value) {
+        put(name, value);
+    }
+
+    default int getInt(String factName, int defaultValue) {
+        return get(factName, Integer.class, defaultValue);
+    }
+
+    default long getLong(String factName, long defaultValue) {
+        return get(factName, Long.class, defaultValue);
+    }
+
+    default double getDouble(String factName, double defaultValue) {
+        return get(factName, Double.class, defaultValue);
+    }
+
+    default boolean getBoolean(String factName, boolean defaultValue) {
+        return get(factName, Boolean.class, defaultValue);
+    }
+
+    /*
+     * Key accessors. The defaults look the fact up by the key name; implementations with slot storage (such as
+     * KeyedFacts) use the key id instead. A fact whose value is not of the key type is treated as missing.
+     */
+
+    default <T> void put(FactKey<T> key, T value) {
+        put(key.name(), value);
+    }
+
+    default <T> Optional<T> get(FactKey<T> key) {
+        return get(key.name(), key.type());
+    }
+
+    default <T> T get(FactKey<T> key, T defaultValue) {
+        return get(key.name(), key.type(), defaultValue);
+    }
+
+    default boolean exists(FactKey<?> key) {
+        return exists(key.name());
+    }
+
+    /*
+     * Change tracking. Every change bumps the version of the fact base and stamps the changed fact with it, so
+     * versions only grow; an untouched fact base is at version zero.
+     */
+
+    long version();
+
+    /**
+     * Version of the last change (creation, update or removal) of the fact, zero if it never existed.
+     */
+    long version(String factName);
+
+    /**
+     * Facts created, updated and deleted after the given version of this fact base.
+     */
+    ChangeSet changesSince(long version);
 }
@@ -14,4 +14,14 @@ public interface Rule extends Comparable<Rule> {
     boolean evaluates(Facts facts);
 
     void execute(Facts facts) throws Exception;
+
+    /**
+     * Whether an engine with adaptive ordering may evaluate this rule before or after other rules, depending on which
+     * is cheaper. Adaptive ordering never moves a rule past one of a different priority and rules of the same priority
+     * can always be reordered, so the flag does not widen the groups the engine reorders; it is kept for rules and
+     * generated adapters that declare it.
+     */
+    default boolean reorderable() {
+        return false;
+    }
 }
@@ -1,5 +1,6 @@
 package com.acepero13.research.ruleengine.api;
 
+import com.acepero13.research.ruleengine.model.CompiledRules;
 import com.acepero13.research.ruleengine.model.Rules;
 
 public interface RuleEngine {
@@ -10,5 +11,10 @@ public interface RuleEngine {
     void unregister(RulesEventsListener listener);
     void unregisterAll();
 
+    /**
+     * Atomically replaces the rules fired by {@link #fire(Facts)}. Fires already running finish with the rules they
+     * started with; the next ones use the published version.
+     */
+    void publish(CompiledRules rules);
 
 }
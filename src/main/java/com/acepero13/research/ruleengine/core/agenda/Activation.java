@@ -0,0 +1,104 @@
+package com.acepero13.research.ruleengine.core.agenda;
+
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.rules.FactPattern;
+import com.acepero13.research.ruleengine.model.rules.PatternRule;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A rule waiting on an {@link Agenda} to be fired, together with what the
+ * {@link ConflictResolutionStrategy strategies} look at: the rule priority (salience), its position in the rule set,
+ * how many tests it makes (specificity) and, once activated, when it was activated (recency) and how recently the
+ * facts of its patterns changed (time tags).
+ * <p>
+ * Engines create one activation per rule and reuse it, so that activating and deactivating a rule allocates nothing.
+ * An activation belongs to at most one agenda at a time.
+ */
+public final class Activation {
+    private static final String[] NO_FACTS = new String[0];
+    private static final long[] NO_TIMETAGS = new long[0];
+
+    private final Rule rule;
+    private final int order;
+    private final int salience;
+    private final int specificity;
+    private final String[] factNames;
+    long recency;
+    /**
+     * Time tag of the fact of the first pattern, what MEA looks at first.
+     */
+    long firstTimetag;
+    /**
+     * Time tags of the facts of every pattern, most recent first.
+     */
+    long[] timetags = NO_TIMETAGS;
+    /**
+     * Position in the agenda heap, -1 when not activated.
+     */
+    int index = -1;
+
+    private Activation(Rule rule, int order, int specificity, String[] factNames) {
+        this.rule = Objects.requireNonNull(rule, "Rule cannot be null");
+        this.order = order;
+        this.salience = rule.priority();
+        this.specificity = specificity;
+        this.factNames = factNames;
+    }
+
+    /**
+     * Activation of the rule at the given position of the rule set. The specificity of a
+     * {@link PatternRule} is its number of patterns plus one for its residual condition; any other rule counts as a
+     * single test.
+     */
+    public static Activation of(Rule rule, int order) {
+        if (!(rule instanceof PatternRule)) {
+            return new Activation(rule, order, 1, NO_FACTS);
+        }
+        PatternRule patternRule = (PatternRule) rule;
+        List<FactPattern> patterns = patternRule.patterns();
+        String[] factNames = new String[patterns.size()];
+        for (int i = 0; i < factNames.length; i++) {
+            factNames[i] = patterns.get(i).factName();
+        }
+        int specificity = factNames.length + (patternRule.condition().isPresent() ? 1 : 0);
+        return new Activation(rule, order, specificity, factNames);
+    }
+
+    public Rule rule() {
+        return rule;
+    }
+
+    public int order() {
+        return order;
+    }
+
+    public int salience() {
+        return salience;
+    }
+
+    public int specificity() {
+        return specificity;
+    }
+
+    /**
+     * Agenda clock value at which the rule was last activated.
+     */
+    public long recency() {
+        return recency;
+    }
+
+    public boolean isActive() {
+        return index >= 0;
+    }
+
+    String[] factNames() {
+        return factNames;
+    }
+
+    @Override
+    public String toString() {
+        return "Activation{" + rule.name() + ", order=" + order + ", recency=" + recency + "}";
+    }
+}
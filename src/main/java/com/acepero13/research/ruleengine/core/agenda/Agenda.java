@@ -0,0 +1,199 @@
+package com.acepero13.research.ruleengine.core.agenda;
+
+import java.util.*;
+
+/**
+ * Activations waiting to be fired, kept in a binary heap ordered by a {@link ConflictResolutionStrategy}. Every
+ * activation remembers its position in the heap, so activating, deactivating and polling are all O(log n) and the
+ * agenda survives from one change to the next instead of being rebuilt.
+ * <p>
+ * The agenda also keeps the clock behind recency and time tags: {@link #factChanged(String)} stamps a fact, and an
+ * activation copies the stamps of its pattern facts when it is activated. Not thread-safe.
+ */
+public final class Agenda {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ConflictResolutionStrategy strategy;
+    private final Map<String, Long> factTimetags = new HashMap<>();
+    private Activation[] heap = new Activation[INITIAL_CAPACITY];
+    private int size;
+    private long clock;
+
+    public Agenda(ConflictResolutionStrategy strategy) {
+        this.strategy = Objects.requireNonNull(strategy, "Strategy cannot be null");
+    }
+
+    public ConflictResolutionStrategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * Records that the fact changed now, making it the most recent one for {@link ConflictResolutionStrategy#LEX}
+     * and {@link ConflictResolutionStrategy#MEA}. Activations already on the agenda keep the time tags they had.
+     */
+    public void factChanged(String factName) {
+        factTimetags.put(factName, ++clock);
+    }
+
+    /**
+     * Adds the activation, stamped with the current clock. An activation already on the agenda keeps its place and
+     * its stamps.
+     *
+     * @return whether the activation was added
+     */
+    public boolean activate(Activation activation) {
+        if (activation.isActive()) {
+            return false;
+        }
+        stamp(activation);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        siftUp(size++, activation);
+        return true;
+    }
+
+    /**
+     * Removes the activation and adds it again with fresh stamps, as when the facts it matched changed.
+     */
+    public void reactivate(Activation activation) {
+        deactivate(activation);
+        activate(activation);
+    }
+
+    /**
+     * @return whether the activation was on the agenda
+     */
+    public boolean deactivate(Activation activation) {
+        int index = activation.index;
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes and returns the activation that fires first, or {@code null} when the agenda is empty.
+     */
+    public Activation poll() {
+        if (size == 0) {
+            return null;
+        }
+        Activation first = heap[0];
+        removeAt(0);
+        return first;
+    }
+
+    public Activation peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    /**
+     * The activations in firing order, without removing them.
+     */
+    public List<Activation> ordered() {
+        Activation[] copy = Arrays.copyOf(heap, size);
+        Arrays.sort(copy, strategy);
+        return Arrays.asList(copy);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every activation and forgets the fact time tags.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i].index = -1;
+            heap[i] = null;
+        }
+        size = 0;
+        factTimetags.clear();
+    }
+
+    private void stamp(Activation activation) {
+        activation.recency = ++clock;
+        String[] factNames = activation.factNames();
+        if (factNames.length == 0) {
+            return;
+        }
+        long[] timetags = activation.timetags.length == factNames.length
+                ? activation.timetags
+                : new long[factNames.length];
+        for (int i = 0; i < factNames.length; i++) {
+            timetags[i] = factTimetags.getOrDefault(factNames[i], 0L);
+        }
+        activation.firstTimetag = timetags[0];
+        Arrays.sort(timetags);
+        reverse(timetags);
+        activation.timetags = timetags;
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private void removeAt(int index) {
+        Activation removed = heap[index];
+        removed.index = -1;
+        Activation last = heap[--size];
+        heap[size] = null;
+        if (index < size) {
+            siftDown(index, last);
+            if (heap[index] == last) {
+                siftUp(index, last);
+            }
+        }
+    }
+
+    private void siftUp(int index, Activation activation) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Activation above = heap[parent];
+            if (strategy.compare(activation, above) >= 0) {
+                break;
+            }
+            place(index, above);
+            index = parent;
+        }
+        place(index, activation);
+    }
+
+    private void siftDown(int index, Activation activation) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && strategy.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (strategy.compare(activation, heap[child]) <= 0) {
+                break;
+            }
+            place(index, heap[child]);
+            index = child;
+        }
+        place(index, activation);
+    }
+
+    private void place(int index, Activation activation) {
+        heap[index] = activation;
+        activation.index = index;
+    }
+
+    @Override
+    public String toString() {
+        return "Agenda{" + strategy + ", " + ordered() + "}";
+    }
+}
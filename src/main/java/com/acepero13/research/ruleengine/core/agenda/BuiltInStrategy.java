@@ -0,0 +1,68 @@
+package com.acepero13.research.ruleengine.core.agenda;
+
+/**
+ * The strategies exposed as constants of {@link ConflictResolutionStrategy}.
+ */
+enum BuiltInStrategy implements ConflictResolutionStrategy {
+    SALIENCE {
+        @Override
+        int resolve(Activation a, Activation b) {
+            return 0;
+        }
+    },
+    RECENCY {
+        @Override
+        int resolve(Activation a, Activation b) {
+            return Long.compare(b.recency, a.recency);
+        }
+    },
+    SPECIFICITY {
+        @Override
+        int resolve(Activation a, Activation b) {
+            return Integer.compare(b.specificity(), a.specificity());
+        }
+    },
+    LEX {
+        @Override
+        int resolve(Activation a, Activation b) {
+            int byTimetags = compareTimetags(a.timetags, b.timetags);
+            return byTimetags != 0 ? byTimetags : SPECIFICITY.resolve(a, b);
+        }
+    },
+    MEA {
+        @Override
+        int resolve(Activation a, Activation b) {
+            int byFirst = Long.compare(b.firstTimetag, a.firstTimetag);
+            return byFirst != 0 ? byFirst : LEX.resolve(a, b);
+        }
+    };
+
+    @Override
+    public int compare(Activation a, Activation b) {
+        int bySalience = Integer.compare(b.salience(), a.salience());
+        if (bySalience != 0) {
+            return bySalience;
+        }
+        int resolved = resolve(a, b);
+        return resolved != 0 ? resolved : Integer.compare(a.order(), b.order());
+    }
+
+    /**
+     * Order of two activations of equal salience, zero to fall back to the rule set order.
+     */
+    abstract int resolve(Activation a, Activation b);
+
+    /**
+     * Both arrays are sorted most recent first: the first differing time tag decides, and on a common prefix the
+     * activation with more facts wins.
+     */
+    private static int compareTimetags(long[] a, long[] b) {
+        int common = Math.min(a.length, b.length);
+        for (int i = 0; i < common; i++) {
+            if (a[i] != b[i]) {
+                return Long.compare(b[i], a[i]);
+            }
+        }
+        return Integer.compare(b.length, a.length);
+    }
+}
@@ -0,0 +1,33 @@
+package com.acepero13.research.ruleengine.core.agenda;
+
+import java.util.Comparator;
+
+/**
+ * Decides which of the activations on an {@link Agenda} fires first: activations that compare lower fire earlier.
+ * The built-in strategies all order by salience (rule priority) first, use their own criterion among activations of
+ * equal salience and fall back to the position of the rules in the rule set, so the order is always deterministic.
+ * Custom strategies must be consistent while the activations are on the agenda: they may only look at the
+ * properties of {@link Activation}.
+ */
+public interface ConflictResolutionStrategy extends Comparator<Activation> {
+    /**
+     * Highest priority first, then rule set order. This is how the engines have always ordered their agenda.
+     */
+    ConflictResolutionStrategy SALIENCE = BuiltInStrategy.SALIENCE;
+    /**
+     * Most recently activated first (depth-first reasoning).
+     */
+    ConflictResolutionStrategy RECENCY = BuiltInStrategy.RECENCY;
+    /**
+     * Rules that make more tests first.
+     */
+    ConflictResolutionStrategy SPECIFICITY = BuiltInStrategy.SPECIFICITY;
+    /**
+     * OPS5 LEX: compares the time tags of the matched facts, most recent first, then specificity.
+     */
+    ConflictResolutionStrategy LEX = BuiltInStrategy.LEX;
+    /**
+     * OPS5 MEA: like {@link #LEX}, but the time tag of the fact of the first pattern is compared first.
+     */
+    ConflictResolutionStrategy MEA = BuiltInStrategy.MEA;
+}
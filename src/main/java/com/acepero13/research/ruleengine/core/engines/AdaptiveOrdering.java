@@ -0,0 +1,163 @@
+package com.acepero13.research.ruleengine.core.engines;
+
+import com.acepero13.research.ruleengine.api.Rule;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Evaluation order learnt for one {@link com.acepero13.research.ruleengine.model.Rules#sorted()} snapshot by
+ * {@link DefaultRuleEngine} when it stops on the first applied rule. The snapshot is cut into groups of rules with the
+ * same priority, and within a group rules are sorted by their mean evaluation time divided by their match rate, so
+ * cheap rules that match often are tried first. Groups themselves never move, so explicit priorities are always
+ * respected.
+ * <p>
+ * The order is recomputed every {@link #REORDER_INTERVAL} fires. Rules that were never evaluated sort first, which
+ * makes sure every rule gets measured, and statistics are halved now and then so the order follows the traffic.
+ * <p>
+ * Thread safe: every fire reads one immutable {@link Order}, statistics are kept in atomic counters and a new order
+ * is published as a whole. Counters updated while the order is recomputed may be missed or halved a bit late, which
+ * only makes the statistics slightly less accurate.
+ */
+final class AdaptiveOrdering {
+    static final int REORDER_INTERVAL = 64;
+    private static final long DECAY_AFTER = 1024;
+
+    private final List<Rule> snapshot;
+    private final List<Rule> agenda;
+    private final int size;
+    /**
+     * Exclusive end of the group every position belongs to, in snapshot order.
+     */
+    private final int[] groupEnd;
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray matches;
+    private final AtomicLongArray nanos;
+    private final AtomicInteger fires = new AtomicInteger();
+    private volatile Order order;
+
+    AdaptiveOrdering(List<Rule> snapshot, List<Rule> agenda) {
+        this.snapshot = snapshot;
+        this.agenda = agenda;
+        this.size = agenda.size();
+        this.groupEnd = groups(agenda);
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        this.order = new Order(agenda.toArray(new Rule[0]), positions);
+        this.evaluations = new AtomicLongArray(size);
+        this.matches = new AtomicLongArray(size);
+        this.nanos = new AtomicLongArray(size);
+    }
+
+    boolean isFor(List<Rule> snapshot) {
+        return this.snapshot == snapshot;
+    }
+
+    /**
+     * The current order. A fire must use the same one from start to end.
+     */
+    Order current() {
+        return order;
+    }
+
+    /**
+     * Records the evaluation of the rule at the given index of the order it was read from.
+     */
+    void evaluated(Order order, int index, boolean matched, long elapsedNanos) {
+        int position = order.positions[index];
+        evaluations.incrementAndGet(position);
+        if (matched) {
+            matches.incrementAndGet(position);
+        }
+        nanos.addAndGet(position, elapsedNanos);
+    }
+
+    void fired() {
+        if (fires.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+    }
+
+    List<Rule> order() {
+        return List.of(order.rules);
+    }
+
+    /**
+     * Only the thread that completes the interval gets here, so reorders do not overlap unless a whole interval of
+     * fires completes meanwhile, in which case the last one published wins.
+     */
+    private void reorder() {
+        double[] scores = new double[size];
+        for (int position = 0; position < size; position++) {
+            long count = evaluations.get(position);
+            if (count > DECAY_AFTER) {
+                evaluations.getAndUpdate(position, c -> c / 2);
+                matches.getAndUpdate(position, m -> m / 2);
+                nanos.getAndUpdate(position, n -> n / 2);
+            }
+            double cost = count == 0 ? 0 : (double) nanos.get(position) / evaluations.get(position);
+            double matchRate = (matches.get(position) + 1.0) / (evaluations.get(position) + 2.0);
+            scores[position] = cost / matchRate;
+        }
+        int[] current = order.positions;
+        Integer[] positions = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = current[i];
+        }
+        Comparator<Integer> byScore = Comparator.comparingDouble(p -> scores[p]);
+        int from = 0;
+        while (from < size) {
+            int to = groupEnd[from];
+            if (to - from > 1) {
+                // Stable, so rules that score the same keep their relative order
+                Arrays.sort(positions, from, to, byScore);
+            }
+            from = to;
+        }
+        Rule[] rules = new Rule[size];
+        int[] sortedPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedPositions[i] = positions[i];
+            rules[i] = agenda.get(positions[i]);
+        }
+        order = new Order(rules, sortedPositions);
+    }
+
+    /**
+     * Groups are runs of rules with the same priority.
+     */
+    private static int[] groups(List<Rule> agenda) {
+        int[] groupEnd = new int[agenda.size()];
+        int start = 0;
+        for (int i = 1; i <= agenda.size(); i++) {
+            if (i == agenda.size() || agenda.get(i).priority() != agenda.get(start).priority()) {
+                Arrays.fill(groupEnd, start, i, i);
+                start = i;
+            }
+        }
+        return groupEnd;
+    }
+
+    /**
+     * One learnt order: the rules to evaluate and, for each of them, its position in the agenda. Never modified once
+     * published.
+     */
+    static final class Order {
+        private final Rule[] rules;
+        private final int[] positions;
+
+        private Order(Rule[] rules, int[] positions) {
+            this.rules = rules;
+            this.positions = positions;
+        }
+
+        Rule ruleAt(int index) {
+            return rules[index];
+        }
+    }
+}
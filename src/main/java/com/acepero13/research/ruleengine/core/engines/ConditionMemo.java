@@ -0,0 +1,100 @@
+package com.acepero13.research.ruleengine.core.engines;
+
+import com.acepero13.research.ruleengine.api.Rule;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Condition results of a forward chaining run, each kept together with the versions of the facts the condition read.
+ * A fact version is bumped whenever the engine sees the fact change, so a cached result is reused exactly until one
+ * of the facts it was computed from changes, however many cycles later that happens.
+ * <p>
+ * Looking results up is safe from several threads as long as no change is recorded meanwhile, which is the case
+ * during the match phase.
+ */
+final class ConditionMemo {
+    private static final String[] NO_NAMES = new String[0];
+
+    private final Map<String, Long> versions = new HashMap<>();
+    private final Map<Rule, Entry> entries = new IdentityHashMap<>();
+    private long clock;
+
+    void clear() {
+        versions.clear();
+        entries.clear();
+        clock = 0;
+    }
+
+    void changed(String factName) {
+        versions.put(factName, ++clock);
+    }
+
+    void changed(Set<String> factNames) {
+        for (String name : factNames) {
+            changed(name);
+        }
+    }
+
+    /**
+     * Result of the previous evaluation of the rule, or {@code null} if there is none or it may be stale.
+     */
+    Boolean cachedResult(Rule rule) {
+        Entry entry = entries.get(rule);
+        return entry != null && isValid(entry) ? entry.result : null;
+    }
+
+    /**
+     * Entry for an evaluation that read the given facts, to be stored with {@link #store(Rule, Entry)} once it is
+     * safe to modify the memo.
+     */
+    Entry entryFor(boolean result, ReadTrackingFacts readFacts) {
+        if (readFacts.readsAll()) {
+            return new Entry(result, NO_NAMES, null, clock);
+        }
+        String[] names = readFacts.reads().toArray(NO_NAMES);
+        long[] readVersions = new long[names.length];
+        for (int i = 0; i < names.length; i++) {
+            readVersions[i] = versionOf(names[i]);
+        }
+        return new Entry(result, names, readVersions, clock);
+    }
+
+    void store(Rule rule, Entry entry) {
+        entries.put(rule, entry);
+    }
+
+    private boolean isValid(Entry entry) {
+        if (entry.versions == null) {
+            // The condition looked at the whole fact base: any change invalidates it
+            return entry.clock == clock;
+        }
+        for (int i = 0; i < entry.names.length; i++) {
+            if (versionOf(entry.names[i]) != entry.versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long versionOf(String factName) {
+        Long version = versions.get(factName);
+        return version != null ? version : 0;
+    }
+
+    static final class Entry {
+        private final boolean result;
+        private final String[] names;
+        private final long[] versions;
+        private final long clock;
+
+        private Entry(boolean result, String[] names, long[] versions, long clock) {
+            this.result = result;
+            this.names = names;
+            this.versions = versions;
+            this.clock = clock;
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.acepero13.research.ruleengine.api.RuleEngine;
 import com.acepero13.research.ruleengine.api.RulesEventsListener;
 import com.acepero13.research.ruleengine.api.Facts;
 import com.acepero13.research.ruleengine.api.Rule;
-import com.acepero13.research.ruleengine.core.utils.LoggingUtils;
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
+import com.acepero13.research.ruleengine.core.tracing.TraceEvent;
+import com.acepero13.research.ruleengine.model.CompiledRules;
 import com.acepero13.research.ruleengine.model.Rules;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -15,9 +17,10 @@ import java.util.Objects;
 
 public class DefaultRuleEngine implements RuleEngine {
     private static final Logger logger = LogManager.getLogger();
-    private final Rules rules;
+    private volatile Rules rules;
     private final List<RulesEventsListener> listeners = new ArrayList<>();
     private final EngineParameters params;
+    private volatile AdaptiveOrdering ordering;
 
     public DefaultRuleEngine(Rules rules) {
         this(Objects.requireNonNull(rules, "Rules cannot be null"), EngineParameters.defaultParameters());
@@ -38,6 +41,11 @@ public class DefaultRuleEngine implements RuleEngine {
         fire(rules, facts);
     }
 
+    @Override
+    public void publish(CompiledRules rules) {
+        this.rules = Rules.from(rules);
+    }
+
     @Override
     public void register(RulesEventsListener listener) {
         listeners.add(listener);
@@ -57,25 +65,45 @@ public class DefaultRuleEngine implements RuleEngine {
         return params;
     }
 
+    /**
+     * Order in which the rules of this engine are currently evaluated. Differs from the priority order only with
+     * {@link EngineParameters#isAdaptiveOrdering()}.
+     */
+    public List<Rule> evaluationOrder() {
+        CompiledRules compiled = rules.compile();
+        List<Rule> agenda = agendaFor(compiled);
+        AdaptiveOrdering current = orderingFor(compiled, agenda);
+        return current == null ? agenda : current.order();
+    }
+
     private void doFire(Rules rules, Facts facts) {
-        logger.info("Engine parameters: {}", params);
-        logger.info("Registered rules:");
-        LoggingUtils.logIterable(rules, logger);
-        logger.info("Known facts:");
-        LoggingUtils.logIterable(facts, logger);
+        logger.debug("Engine parameters: {}", params);
+        ExecutionTracer tracer = params.getTracer();
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
+        tracer.fireStarted(rules, facts);
 
-        executeAgenda(rules, facts);
+        executeAgenda(rules.compile(), facts, tracer);
 
-        logger.info("Finished evaluating rules. Facts based after evaluation: {}", facts);
+        tracer.fireFinished(facts, 1, tracer.isEnabled() ? System.nanoTime() - start : 0);
     }
 
-    private void executeAgenda(Rules rules, Facts facts) {
-        for (Rule rule : rules) {
+    private void executeAgenda(CompiledRules rules, Facts facts, ExecutionTracer tracer) {
+        List<Rule> agenda = agendaFor(rules);
+        AdaptiveOrdering ordering = orderingFor(rules, agenda);
+        AdaptiveOrdering.Order order = ordering == null ? null : ordering.current();
+        for (int i = 0; i < agenda.size(); i++) {
+            Rule rule = order == null ? agenda.get(i) : order.ruleAt(i);
             if (shouldSkip(rule, facts)) {
                 logger.debug("Skipping rule: {}. With facts: {}", rule, facts);
+                tracer.record(rule, TraceEvent.Phase.EVALUATION, TraceEvent.Outcome.SKIPPED, 0);
                 continue;
             }
-            if (evaluationFailed(facts, rule)) {
+            long start = ordering == null ? 0 : System.nanoTime();
+            boolean failed = evaluationFailed(facts, rule, tracer);
+            if (ordering != null) {
+                ordering.evaluated(order, i, !failed, System.nanoTime() - start);
+            }
+            if (failed) {
                 listeners.forEach(l -> l.evaluationFailed(rule, facts));
                 if (params.isSkipOnFirstNonTriggeredRule()) {
                     logger.debug("Stop executing rules because skipOnFirstNonTriggeredRule flag is activated");
@@ -84,21 +112,31 @@ public class DefaultRuleEngine implements RuleEngine {
                 logger.debug("Evaluation of rule: {}. With facts: {}. Continuing evaluation", rule, facts);
                 continue;
             }
-            logger.info("Rule: '{}' is activated", rule);
-            boolean result = execute(facts, rule);
-            logger.info("Firing rule: '{}'", rule);
+            boolean result = execute(facts, rule, tracer);
             if (shouldStopExecutionAfter(result)) {
                 logger.debug("Stop executing rules because isSkipOnFirstAppliedRule flag is activated and rule was executed successfully.");
                 break;
             }
 
         }
+        if (ordering != null) {
+            ordering.fired();
+        }
     }
 
-    private boolean evaluationFailed(Facts facts, Rule rule) {
+    private boolean evaluationFailed(Facts facts, Rule rule, ExecutionTracer tracer) {
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
         try {
-            return !rule.evaluates(facts);
+            boolean matched = rule.evaluates(facts);
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EVALUATION,
+                        matched ? TraceEvent.Outcome.MATCHED : TraceEvent.Outcome.NOT_MATCHED, System.nanoTime() - start);
+            }
+            return !matched;
         } catch (Exception e) {
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EVALUATION, TraceEvent.Outcome.FAILED, System.nanoTime() - start);
+            }
             logFailure(e, rule);
             return true;
         }
@@ -106,9 +144,14 @@ public class DefaultRuleEngine implements RuleEngine {
 
     }
 
-    private boolean execute(Facts facts, Rule rule) {
+    private boolean execute(Facts facts, Rule rule, ExecutionTracer tracer) {
         listeners.forEach(l -> l.beforeFire(rule));
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
         boolean result = tryToFire(facts, rule);
+        if (tracer.isEnabled()) {
+            tracer.record(rule, TraceEvent.Phase.EXECUTION,
+                    result ? TraceEvent.Outcome.SUCCEEDED : TraceEvent.Outcome.FAILED, System.nanoTime() - start);
+        }
         listeners.forEach(l -> l.afterFire(rule));
         return result;
     }
@@ -139,13 +182,38 @@ public class DefaultRuleEngine implements RuleEngine {
     }
 
     private boolean shouldSkip(Rule rule, Facts facts) {
-        return listeners.stream().anyMatch(l -> !l.shouldFire(rule, facts)) || isThresholdTooLow(rule);
+        for (int i = 0; i < listeners.size(); i++) {
+            if (!listeners.get(i).shouldFire(rule, facts)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private boolean isThresholdTooLow(Rule rule) {
+    /**
+     * Rules below the priority threshold sort last, so they are cut off instead of being checked one by one.
+     */
+    private List<Rule> agendaFor(CompiledRules rules) {
         if (params.getPriorityThreshold() <= 0) {
-            return false;
+            return rules.sorted();
+        }
+        return rules.withPriorityAtLeast(params.getPriorityThreshold());
+    }
+
+    /**
+     * The learnt order for the current snapshot of the rules, or null when the order is fixed. Statistics start over
+     * whenever the rules change; fires racing on a change may each start one, and the last one stays.
+     */
+    private AdaptiveOrdering orderingFor(CompiledRules rules, List<Rule> agenda) {
+        if (!params.isAdaptiveOrdering() || !params.isSkipOnFirstAppliedRule()) {
+            return null;
+        }
+        List<Rule> snapshot = rules.sorted();
+        AdaptiveOrdering current = ordering;
+        if (current == null || !current.isFor(snapshot)) {
+            current = new AdaptiveOrdering(snapshot, agenda);
+            ordering = current;
         }
-        return params.getPriorityThreshold() > rule.priority();
+        return current;
     }
 }
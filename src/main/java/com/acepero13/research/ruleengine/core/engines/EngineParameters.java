@@ -1,5 +1,6 @@
 package com.acepero13.research.ruleengine.core.engines;
 
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -13,6 +14,18 @@ public class EngineParameters {
     private final boolean skipOnFirstAppliedRule;
     private final boolean skipOnFirstFailedRule;
     private final boolean skipOnFirstNonTriggeredRule;
+    /**
+     * Receives every evaluated and executed rule. Nothing is traced by default.
+     */
+    @Builder.Default
+    private final ExecutionTracer tracer = ExecutionTracer.NONE;
+    /**
+     * With {@link #skipOnFirstAppliedRule}, evaluates the rules of the same priority cheapest and most likely to match
+     * first, as measured while firing. Rules are never moved past a rule of another priority. Only enable it when it
+     * does not matter which rule of the same priority applies, for instance when they are mutually exclusive. Ignored
+     * otherwise.
+     */
+    private final boolean adaptiveOrdering;
 
     public static EngineParameters defaultParameters() {
         return EngineParameters.builder()
@@ -5,7 +5,12 @@ import com.acepero13.research.ruleengine.api.Rule;
 import com.acepero13.research.ruleengine.api.RuleEngine;
 import com.acepero13.research.ruleengine.api.RulesEventsListener;
 import com.acepero13.research.ruleengine.api.Facts;
-import com.acepero13.research.ruleengine.core.utils.LoggingUtils;
+import com.acepero13.research.ruleengine.core.agenda.Activation;
+import com.acepero13.research.ruleengine.core.agenda.Agenda;
+import com.acepero13.research.ruleengine.core.agenda.ConflictResolutionStrategy;
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
+import com.acepero13.research.ruleengine.core.tracing.TraceEvent;
+import com.acepero13.research.ruleengine.model.CompiledRules;
 import com.acepero13.research.ruleengine.model.Rules;
 import lombok.Builder;
 import lombok.Data;
@@ -14,17 +19,29 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 
 public class ForwardChainEngine implements RuleEngine, FactBaseListener {
     private static final Logger logger = LogManager.getLogger();
+    private static final int TASKS_PER_CORE = 4;
 
     private final ForwardChainEngineParameters params;
     private final List<RulesEventsListener> listeners = new ArrayList<>();
-    private final Rules rules;
+    private volatile Rules rules;
     private final List<String> newFacts = new ArrayList<>();
     private final List<String> updatedFacts = new ArrayList<>();
+    private final ConditionMemo memo = new ConditionMemo();
+    private Agenda agenda;
+    /**
+     * One activation per rule of the {@link #activationsOf} snapshot, reused across cycles.
+     */
+    private Activation[] activations = new Activation[0];
+    private List<Rule> activationsOf;
 
     public ForwardChainEngine(Rules rules) {
         this(Objects.requireNonNull(rules), ForwardChainEngineParameters.defaultParameters());
@@ -41,25 +58,30 @@ public class ForwardChainEngine implements RuleEngine, FactBaseListener {
         Objects.requireNonNull(facts, "Facts cannot be null");
 
 
-        logger.info("Engine parameters: {}", params);
-        logger.info("Registered rules:");
-        LoggingUtils.logIterable(rules, logger);
-        logger.info("Known facts:");
-        LoggingUtils.logIterable(facts, logger);
+        logger.debug("Engine parameters: {}", params);
+        ExecutionTracer tracer = params.getTracer();
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
+        tracer.fireStarted(rules, facts);
 
+        agenda = new Agenda(params.getConflictResolution());
+        activationsOf = null;
         facts.register(this);
+        memo.clear();
 
-        List<Rule> agenda;
+        // Every cycle works with the rules the fire started with
+        CompiledRules compiled = rules.compile();
+        List<Rule> executed;
+        int cycles = 0;
         do {
-            agenda = doFire(rules, facts);
-
-        } while (thereAreStillRulesToConsider(agenda, facts));
+            executed = doFire(compiled, facts);
+            cycles++;
+        } while (thereAreStillRulesToConsider(executed, facts));
 
         facts.unregister(this);
-        logger.info("Finished evaluating rules. Facts based after evaluation: {}", facts);
+        tracer.fireFinished(facts, cycles, tracer.isEnabled() ? System.nanoTime() - start : 0);
     }
 
-    private List<Rule> doFire(Rules rules, Facts facts) {
+    private List<Rule> doFire(CompiledRules rules, Facts facts) {
         List<Rule> agenda;
         newFacts.clear();
         agenda = selectActiveRules(rules, facts);
@@ -77,9 +99,13 @@ public class ForwardChainEngine implements RuleEngine, FactBaseListener {
     }
 
     private void executeAgenda(Facts facts, List<Rule> agenda) {
-        logger.info("#### Executing the following agenda: {}, with facts: {}", agenda, facts);
+        logger.debug("Executing the following agenda: {}", agenda);
         for (Rule rule : agenda) {
-            tryToFire(facts, rule);
+            if (params.memoizesConditions()) {
+                fireTrackingWrites(facts, rule);
+            } else {
+                tryToFire(facts, rule);
+            }
         }
     }
 
@@ -88,6 +114,11 @@ public class ForwardChainEngine implements RuleEngine, FactBaseListener {
         fire(this.rules, facts);
     }
 
+    @Override
+    public void publish(CompiledRules rules) {
+        this.rules = Rules.from(rules);
+    }
+
     @Override
     public void register(RulesEventsListener listener) {
         listeners.add(listener);
@@ -107,45 +138,199 @@ public class ForwardChainEngine implements RuleEngine, FactBaseListener {
         return params;
     }
 
-    private List<Rule> selectActiveRules(Rules rules, Facts facts) {
-        logger.info("Evaluation started: ");
-        List<Rule> agenda = new ArrayList<>();
-
-        for (Rule rule : rules) {
-            if (evaluationSucceeded(facts, rule)) {
-                logger.info("Rule: '{}' is activated", rule);
-                agenda.add(rule);
+    /**
+     * Activates the matching rules and deactivates the others on the persistent agenda, then returns the active
+     * rules in firing order.
+     */
+    private List<Rule> selectActiveRules(CompiledRules rules, Facts facts) {
+        List<Rule> sorted = rules.sorted();
+        Activation[] activations = activationsFor(sorted);
+        boolean[] skipped = params.isParallelEvaluation() ? skippedRules(sorted, facts) : null;
+        boolean[] matches = skipped == null ? null : matchInParallel(sorted, facts, skipped);
+        for (int i = 0; i < sorted.size(); i++) {
+            Rule rule = sorted.get(i);
+            boolean active;
+            if (skipped == null ? shouldSkip(rule, facts) : skipped[i]) {
+                logger.debug("Skipping rule: {}. With facts: {}", rule, facts);
+                params.getTracer().record(rule, TraceEvent.Phase.EVALUATION, TraceEvent.Outcome.SKIPPED, 0);
+                active = false;
+            } else if (matches != null) {
+                active = matches[i];
             } else {
-                logger.info("Rule: '{}' is NOT activated ", rule);
+                active = params.memoizesConditions()
+                        ? evaluateMemoized(facts, rule)
+                        : evaluationSucceeded(facts, facts, rule);
+            }
+            if (active) {
+                agenda.activate(activations[i]);
+            } else {
+                agenda.deactivate(activations[i]);
             }
         }
-        return agenda;
+        List<Rule> active = new ArrayList<>(agenda.size());
+        if (agenda.strategy() == ConflictResolutionStrategy.SALIENCE) {
+            // The rules are already sorted by salience, then rule set order, so no need to sort the heap
+            for (Activation activation : activations) {
+                if (activation.isActive()) {
+                    active.add(activation.rule());
+                }
+            }
+            return active;
+        }
+        for (Activation activation : agenda.ordered()) {
+            active.add(activation.rule());
+        }
+        return active;
+    }
+
+    private Activation[] activationsFor(List<Rule> sorted) {
+        if (sorted != activationsOf) {
+            // First cycle of the fire
+            agenda.clear();
+            activations = new Activation[sorted.size()];
+            for (int i = 0; i < activations.length; i++) {
+                activations[i] = Activation.of(sorted.get(i), i);
+            }
+            activationsOf = sorted;
+        }
+        return activations;
+    }
+
+    /**
+     * Asks the listeners on this thread, before any condition is evaluated in parallel, which rules to skip.
+     */
+    private boolean[] skippedRules(List<Rule> sorted, Facts facts) {
+        boolean[] skipped = new boolean[sorted.size()];
+        for (int i = 0; i < skipped.length; i++) {
+            skipped[i] = shouldSkip(sorted.get(i), facts);
+        }
+        return skipped;
     }
 
-    private boolean evaluationSucceeded(Facts facts, Rule rule) {
+    /**
+     * Evaluates the conditions of the rules that are not skipped in slices on the evaluation executor. Conditions
+     * only read the facts, so the slices run without locking; failures and incremental bookkeeping are applied
+     * afterwards on this thread, in priority order, exactly as the sequential match phase would do.
+     */
+    private boolean[] matchInParallel(List<Rule> sorted, Facts facts, boolean[] skipped) {
+        int size = sorted.size();
+        Match match = new Match(size, params.memoizesConditions(), params.getTracer().isEnabled());
+        int tasks = Math.min(size, Runtime.getRuntime().availableProcessors() * TASKS_PER_CORE);
+        CompletableFuture<?>[] slices = new CompletableFuture<?>[tasks];
+        for (int t = 0; t < tasks; t++) {
+            int from = (int) ((long) size * t / tasks);
+            int to = (int) ((long) size * (t + 1) / tasks);
+            slices[t] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    if (!skipped[i]) {
+                        match.evaluate(i, sorted.get(i), facts);
+                    }
+                }
+            }, params.evaluationExecutor());
+        }
         try {
-            return rule.evaluates(facts);
+            CompletableFuture.allOf(slices).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+
+        for (int i = 0; i < size; i++) {
+            Rule rule = sorted.get(i);
+            if (match.nanos != null && match.evaluated[i]) {
+                TraceEvent.Outcome outcome = outcomeOf(match.results[i], match.failures[i]);
+                params.getTracer().record(rule, TraceEvent.Phase.EVALUATION, outcome, match.nanos[i]);
+            }
+            if (match.failures[i] != null) {
+                listeners.forEach(l -> l.evaluationFailed(rule, facts));
+                logFailure(match.failures[i], rule);
+            }
+            if (match.entries != null && match.entries[i] != null) {
+                memo.store(rule, match.entries[i]);
+            }
+        }
+        return match.results;
+    }
+
+    /**
+     * Re-evaluates the rule only when a fact read by its last evaluation changed since then; otherwise the cached
+     * result still holds.
+     */
+    private boolean evaluateMemoized(Facts facts, Rule rule) {
+        Boolean cached = memo.cachedResult(rule);
+        if (cached != null) {
+            logger.debug("Rule: '{}' does not depend on the changed facts. Reusing previous evaluation", rule);
+            return cached;
+        }
+        ReadTrackingFacts readFacts = new ReadTrackingFacts(facts);
+        boolean result = evaluationSucceeded(readFacts, facts, rule);
+        memo.store(rule, memo.entryFor(result, readFacts));
+        return result;
+    }
+
+    private boolean evaluationSucceeded(Facts evaluatedFacts, Facts facts, Rule rule) {
+        ExecutionTracer tracer = params.getTracer();
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
+        try {
+            boolean result = rule.evaluates(evaluatedFacts);
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EVALUATION, outcomeOf(result, null), System.nanoTime() - start);
+            }
+            return result;
         } catch (Exception e) {
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EVALUATION, TraceEvent.Outcome.FAILED, System.nanoTime() - start);
+            }
             listeners.forEach(l -> l.evaluationFailed(rule, facts));
             logFailure(e, rule);
             return false;
         }
+    }
 
-
+    private static TraceEvent.Outcome outcomeOf(boolean result, Exception failure) {
+        if (failure != null) {
+            return TraceEvent.Outcome.FAILED;
+        }
+        return result ? TraceEvent.Outcome.MATCHED : TraceEvent.Outcome.NOT_MATCHED;
     }
 
 
+    private void fireTrackingWrites(Facts facts, Rule rule) {
+        ReadTrackingFacts writtenFacts = new ReadTrackingFacts(facts);
+        tryToFire(writtenFacts, facts, rule);
+        // Covers the writes the fact base does not notify, such as removals
+        memo.changed(writtenFacts.writes());
+    }
+
     private void tryToFire(Facts facts, Rule rule) {
+        tryToFire(facts, facts, rule);
+    }
+
+    private void tryToFire(Facts executedFacts, Facts facts, Rule rule) {
+        ExecutionTracer tracer = params.getTracer();
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
         try {
             listeners.forEach(l -> l.beforeFire(rule));
-            rule.execute(facts);
+            rule.execute(executedFacts);
             listeners.forEach(l -> l.afterFire(rule));
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EXECUTION, TraceEvent.Outcome.SUCCEEDED, System.nanoTime() - start);
+            }
         } catch (Exception e) {
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EXECUTION, TraceEvent.Outcome.FAILED, System.nanoTime() - start);
+            }
             listeners.forEach(l -> l.executionFailed(rule, facts));
             logFailure(e, rule);
         }
     }
 
+    private boolean shouldSkip(Rule rule, Facts facts) {
+        return listeners.stream().anyMatch(l -> !l.shouldFire(rule, facts));
+    }
+
     private void logFailure(Exception e, Rule rule) {
         var message = "Evaluation failed with error. " + e.getMessage() + " ."
                 + " Failing rule:" + rule;
@@ -157,10 +342,18 @@ public class ForwardChainEngine implements RuleEngine, FactBaseListener {
     public <T> void newFactAdded(String name, T value) {
         logger.debug("New fact {} added to ForwardEngine with value: {} ", name, value);
         this.newFacts.add(name);
+        agenda.factChanged(name);
+        if (params.memoizesConditions()) {
+            memo.changed(name);
+        }
     }
 
     @Override
     public <T> void newFactReplaced(String name, T value) {
+        agenda.factChanged(name);
+        if (params.memoizesConditions()) {
+            memo.changed(name);
+        }
         if (params.isConsiderUpdatesFacts()) {
             updatedFacts.add(name);
         }
@@ -174,14 +367,105 @@ public class ForwardChainEngine implements RuleEngine, FactBaseListener {
         private final int priorityThreshold;
         private final boolean considerNewFacts;
         private final boolean considerUpdatesFacts;
-        private final Predicate<Facts> stopOnCondition;
+        @Builder.Default
+        private final Predicate<Facts> stopOnCondition = DO_NOT_STOP;
+        /**
+         * Re-evaluates only the rules whose condition read a fact that changed in the previous cycle. Conditions
+         * must then depend on nothing but the facts they read. It is implemented by {@link #memoizeConditions}.
+         */
+        private final boolean incremental;
+        /**
+         * Caches the result of every condition together with the versions of the facts it read, and reuses it
+         * until one of those facts changes. Meant for conditions that are expensive or call other services; they
+         * must depend on nothing but the facts they read. Results are kept for the duration of a fire.
+         */
+        private final boolean memoizeConditions;
+        /**
+         * Evaluates the conditions of a cycle concurrently on {@link #evaluationExecutor}. The agenda and the act
+         * phase stay in priority order. Conditions must only read the fact base.
+         */
+        private final boolean parallelEvaluation;
+        /**
+         * Executor of the parallel match phase. The common {@link ForkJoinPool} is used when none is set.
+         */
+        private final Executor evaluationExecutor;
+        /**
+         * Receives every evaluated and executed rule. Nothing is traced by default.
+         */
+        @Builder.Default
+        private final ExecutionTracer tracer = ExecutionTracer.NONE;
+        /**
+         * Order in which the active rules of a cycle fire. Highest priority first by default.
+         */
+        @Builder.Default
+        private final ConflictResolutionStrategy conflictResolution = ConflictResolutionStrategy.SALIENCE;
 
         public static ForwardChainEngineParameters defaultParameters() {
-            return new ForwardChainEngineParameters(Integer.MAX_VALUE - 1,
-                    true,
-                    true,
-                    DO_NOT_STOP);
+            return ForwardChainEngineParameters.builder()
+                    .priorityThreshold(Integer.MAX_VALUE - 1)
+                    .considerNewFacts(true)
+                    .considerUpdatesFacts(true)
+                    .build();
+        }
+
+        boolean memoizesConditions() {
+            return memoizeConditions || incremental;
         }
 
+        Executor evaluationExecutor() {
+            return evaluationExecutor != null ? evaluationExecutor : ForkJoinPool.commonPool();
+        }
+    }
+
+    /**
+     * Results of a parallel match phase, one slot per rule so that the slices never write to the same element.
+     */
+    private final class Match {
+        private final boolean[] results;
+        private final Exception[] failures;
+        private final ConditionMemo.Entry[] entries;
+        /**
+         * Evaluation times, only when tracing. Reused results are not evaluations.
+         */
+        private final long[] nanos;
+        private final boolean[] evaluated;
+
+        private Match(int size, boolean memoized, boolean timed) {
+            this.results = new boolean[size];
+            this.failures = new Exception[size];
+            this.entries = memoized ? new ConditionMemo.Entry[size] : null;
+            this.nanos = timed ? new long[size] : null;
+            this.evaluated = timed ? new boolean[size] : null;
+        }
+
+        private void evaluate(int index, Rule rule, Facts facts) {
+            if (entries == null) {
+                results[index] = succeeds(index, rule, facts);
+                return;
+            }
+            Boolean cached = memo.cachedResult(rule);
+            if (cached != null) {
+                results[index] = cached;
+                return;
+            }
+            ReadTrackingFacts readFacts = new ReadTrackingFacts(facts);
+            results[index] = succeeds(index, rule, readFacts);
+            entries[index] = memo.entryFor(results[index], readFacts);
+        }
+
+        private boolean succeeds(int index, Rule rule, Facts evaluatedFacts) {
+            long start = nanos != null ? System.nanoTime() : 0;
+            try {
+                return rule.evaluates(evaluatedFacts);
+            } catch (Exception e) {
+                failures[index] = e;
+                return false;
+            } finally {
+                if (nanos != null) {
+                    nanos[index] = System.nanoTime() - start;
+                    evaluated[index] = true;
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,213 @@
+package com.acepero13.research.ruleengine.core.engines;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.ChangeSet;
+import com.acepero13.research.ruleengine.model.Fact;
+import com.acepero13.research.ruleengine.model.FactsOperation;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Decorates a fact base and records the names of the facts that are read and written through it. Operations that
+ * look at the whole fact base (iteration, {@link #total()}, its version, {@link #toString()}) mark the read set as
+ * unbounded.
+ */
+public final class ReadTrackingFacts implements Facts {
+    private final Facts delegate;
+    private final Set<String> reads = new HashSet<>();
+    private final Set<String> writes = new HashSet<>();
+    private boolean readsAll;
+
+    public ReadTrackingFacts(Facts delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Facts cannot be null");
+    }
+
+    /**
+     * Names of the facts read so far. Only meaningful when {@link #readsAll()} is false.
+     */
+    public Set<String> reads() {
+        return Collections.unmodifiableSet(reads);
+    }
+
+    public Set<String> writes() {
+        return Collections.unmodifiableSet(writes);
+    }
+
+    public boolean readsAll() {
+        return readsAll;
+    }
+
+    public Facts delegate() {
+        return delegate;
+    }
+
+    /**
+     * Records reads made on behalf of this fact base elsewhere, such as by a cached {@link SharedCondition}.
+     */
+    public void recordReads(Set<String> names, boolean all) {
+        reads.addAll(names);
+        readsAll |= all;
+    }
+
+    @Override
+    public <T> void put(String name, T value) {
+        writes.add(name);
+        delegate.put(name, value);
+    }
+
+    @Override
+    public void registerNotificationsFor(String name, Consumer<FactsOperation> consumer) {
+        delegate.registerNotificationsFor(name, consumer);
+    }
+
+    @Override
+    public void register(FactBaseListener listener) {
+        delegate.register(listener);
+    }
+
+    @Override
+    public void unregister(FactBaseListener listener) {
+        delegate.unregister(listener);
+    }
+
+    @Override
+    public void unregisterAll() {
+        delegate.unregisterAll();
+    }
+
+    @Override
+    public void remove(String name) {
+        writes.add(name);
+        delegate.remove(name);
+    }
+
+    @Override
+    public <T> void add(Fact<T> fact) {
+        writes.add(fact.name());
+        delegate.add(fact);
+    }
+
+    @Override
+    public <T> Optional<T> get(String factName) {
+        reads.add(factName);
+        return delegate.get(factName);
+    }
+
+    @Override
+    public Optional<Fact<?>> getFact(String factName) {
+        reads.add(factName);
+        return delegate.getFact(factName);
+    }
+
+    @Override
+    public int total() {
+        readsAll = true;
+        return delegate.total();
+    }
+
+    @Override
+    public <T> T get(String factName, Class<T> type, T defaultValue) {
+        reads.add(factName);
+        return delegate.get(factName, type, defaultValue);
+    }
+
+    @Override
+    public <T> Optional<T> get(String factName, Class<T> type) {
+        reads.add(factName);
+        return delegate.get(factName, type);
+    }
+
+    @Override
+    public void putInt(String name, int value) {
+        writes.add(name);
+        delegate.putInt(name, value);
+    }
+
+    @Override
+    public int getInt(String factName, int defaultValue) {
+        reads.add(factName);
+        return delegate.getInt(factName, defaultValue);
+    }
+
+    @Override
+    public void putLong(String name, long value) {
+        writes.add(name);
+        delegate.putLong(name, value);
+    }
+
+    @Override
+    public long getLong(String factName, long defaultValue) {
+        reads.add(factName);
+        return delegate.getLong(factName, defaultValue);
+    }
+
+    @Override
+    public void putDouble(String name, double value) {
+        writes.add(name);
+        delegate.putDouble(name, value);
+    }
+
+    @Override
+    public double getDouble(String factName, double defaultValue) {
+        reads.add(factName);
+        return delegate.getDouble(factName, defaultValue);
+    }
+
+    @Override
+    public void putBoolean(String name, boolean value) {
+        writes.add(name);
+        delegate.putBoolean(name, value);
+    }
+
+    @Override
+    public boolean getBoolean(String factName, boolean defaultValue) {
+        reads.add(factName);
+        return delegate.getBoolean(factName, defaultValue);
+    }
+
+    @Override
+    public <T> void updatesIfExists(String factName, Class<T> type, UnaryOperator<T> func) {
+        reads.add(factName);
+        writes.add(factName);
+        delegate.updatesIfExists(factName, type, func);
+    }
+
+    @Override
+    public boolean exists(String factName) {
+        reads.add(factName);
+        return delegate.exists(factName);
+    }
+
+    @Override
+    public long version() {
+        readsAll = true;
+        return delegate.version();
+    }
+
+    @Override
+    public long version(String factName) {
+        reads.add(factName);
+        return delegate.version(factName);
+    }
+
+    @Override
+    public ChangeSet changesSince(long version) {
+        readsAll = true;
+        return delegate.changesSince(version);
+    }
+
+    @Override
+    public Iterator<Fact<?>> iterator() {
+        readsAll = true;
+        return delegate.iterator();
+    }
+
+    @Override
+    public String toString() {
+        readsAll = true;
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package com.acepero13.research.ruleengine.core.engines;
+
+import com.acepero13.research.ruleengine.api.Condition;
+import com.acepero13.research.ruleengine.api.Facts;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A named sub-condition, such as "customer is premium", meant to be referenced from many rules
+ * ({@code premium.and(...)}). It is evaluated at most once per version of the fact base (see {@link Facts#version()})
+ * and the result is shared by every rule that evaluates it against the same fact base until a fact changes.
+ * {@link #evaluations()} and {@link #reuses()} tell how well the sharing works.
+ * <p>
+ * The wrapped condition must depend on nothing but the facts it reads. The facts a cached evaluation read are
+ * reported to the engines that track reads, so memoized engines still see the dependency. Only the last fact base is
+ * remembered, weakly.
+ */
+public final class SharedCondition implements Condition {
+    private final String name;
+    private final Condition condition;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private volatile Result last;
+
+    private SharedCondition(String name, Condition condition) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.condition = Objects.requireNonNull(condition, "Condition cannot be null");
+    }
+
+    public static SharedCondition of(String name, Condition condition) {
+        return new SharedCondition(name, condition);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * How many times the wrapped condition was actually evaluated.
+     */
+    public long evaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * How many times a previous result was returned instead.
+     */
+    public long reuses() {
+        return reuses.sum();
+    }
+
+    @Override
+    public boolean evaluate(Facts facts) {
+        Facts base = facts;
+        while (base instanceof ReadTrackingFacts) {
+            base = ((ReadTrackingFacts) base).delegate();
+        }
+        long version = base.version();
+
+        Result result = last;
+        if (result == null || !result.isFor(base, version)) {
+            ReadTrackingFacts tracking = new ReadTrackingFacts(base);
+            boolean value = condition.evaluate(tracking);
+            evaluations.increment();
+            result = new Result(base, version, value, Set.copyOf(tracking.reads()), tracking.readsAll());
+            last = result;
+        } else {
+            reuses.increment();
+        }
+        if (facts instanceof ReadTrackingFacts) {
+            ((ReadTrackingFacts) facts).recordReads(result.reads, result.readsAll);
+        }
+        return result.value;
+    }
+
+    @Override
+    public String toString() {
+        return "SharedCondition{" + name + ", evaluations=" + evaluations() + ", reuses=" + reuses() + "}";
+    }
+
+    private static final class Result {
+        private final WeakReference<Facts> facts;
+        private final long version;
+        private final boolean value;
+        private final Set<String> reads;
+        private final boolean readsAll;
+
+        private Result(Facts facts, long version, boolean value, Set<String> reads, boolean readsAll) {
+            this.facts = new WeakReference<>(facts);
+            this.version = version;
+            this.value = value;
+            this.reads = reads;
+            this.readsAll = readsAll;
+        }
+
+        private boolean isFor(Facts facts, long version) {
+            return this.version == version && this.facts.get() == facts;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.acepero13.research.ruleengine.core.engines.async;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.api.RuleEngine;
+import com.acepero13.research.ruleengine.api.RulesEventsListener;
+import com.acepero13.research.ruleengine.core.engines.batch.FireOutcome;
+import com.acepero13.research.ruleengine.core.engines.batch.OutcomeRecorder;
+import com.acepero13.research.ruleengine.model.CompiledRules;
+import com.acepero13.research.ruleengine.model.Rules;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Fires rules without blocking the caller. Every call runs as its own session, with a fresh engine, on the executor
+ * of this engine; by default that is one virtual thread per session when the JVM supports them, so sessions can block
+ * in their actions without holding a platform thread.
+ * <p>
+ * Cancelling the returned future with {@code mayInterruptIfRunning} interrupts the session thread; in any case no
+ * further rule is fired once the session notices the cancellation. Registered listeners are attached to every
+ * session and are therefore called from the session threads, possibly concurrently.
+ */
+public class AsyncRuleEngine {
+    private static final Logger logger = LogManager.getLogger();
+
+    private final Function<Rules, ? extends RuleEngine> engineFactory;
+    private volatile Rules rules;
+    private final Executor executor;
+    private final List<RulesEventsListener> listeners = new CopyOnWriteArrayList<>();
+
+    public AsyncRuleEngine(Function<Rules, ? extends RuleEngine> engineFactory, Rules rules) {
+        this(engineFactory, rules, DefaultExecutor.INSTANCE);
+    }
+
+    public AsyncRuleEngine(Function<Rules, ? extends RuleEngine> engineFactory, Rules rules, Executor executor) {
+        this.engineFactory = Objects.requireNonNull(engineFactory, "Engine factory cannot be null");
+        this.rules = Objects.requireNonNull(rules, "Rules cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Fires the rules against the facts in a new session. The future completes with the same fact base once the
+     * engine is done.
+     */
+    public CompletableFuture<Facts> fireAsync(Facts facts) {
+        CompletableFuture<FireOutcome> session = fireWithOutcome(facts);
+        // A plain thenApply would not pass cancellation back to the session
+        CompletableFuture<Facts> result = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                session.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        session.whenComplete((outcome, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(outcome.getFacts());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Like {@link #fireAsync(Facts)}, completing with a summary of the rules that fired and failed.
+     */
+    public CompletableFuture<FireOutcome> fireWithOutcome(Facts facts) {
+        Objects.requireNonNull(facts, "Facts cannot be null");
+        Session session = new Session(facts);
+        try {
+            executor.execute(session);
+        } catch (RejectedExecutionException e) {
+            session.completeExceptionally(e);
+        }
+        return session;
+    }
+
+    /**
+     * Atomically replaces the rules of the sessions submitted from now on. Sessions already submitted keep the rules
+     * they were submitted with.
+     */
+    public void publish(CompiledRules rules) {
+        this.rules = Rules.from(rules);
+    }
+
+    public void register(RulesEventsListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unregister(RulesEventsListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void unregisterAll() {
+        listeners.clear();
+    }
+
+    /**
+     * One fire of the rules, which is also the future handed out to the caller.
+     */
+    private final class Session extends CompletableFuture<FireOutcome> implements Runnable, RulesEventsListener {
+        private final Facts facts;
+        private final Rules rules;
+        private Thread runner;
+
+        private Session(Facts facts) {
+            this.facts = facts;
+            this.rules = AsyncRuleEngine.this.rules;
+        }
+
+        @Override
+        public void run() {
+            if (!start()) {
+                return;
+            }
+            try {
+                RuleEngine engine = engineFactory.apply(rules);
+                OutcomeRecorder recorder = new OutcomeRecorder();
+                engine.register(this);
+                engine.register(recorder);
+                listeners.forEach(engine::register);
+                engine.fire(rules, facts);
+                complete(recorder.finish(facts));
+            } catch (Throwable e) {
+                logger.error("Rule session failed with error. {}", e.getMessage());
+                completeExceptionally(e);
+            } finally {
+                finish();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && mayInterruptIfRunning) {
+                interrupt();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean shouldFire(Rule rule, Facts facts) {
+            return !isCancelled();
+        }
+
+        private synchronized boolean start() {
+            if (isDone()) {
+                return false;
+            }
+            runner = Thread.currentThread();
+            return true;
+        }
+
+        private synchronized void finish() {
+            runner = null;
+            // Do not leak an interrupt meant for this session to the next task of a pooled thread
+            Thread.interrupted();
+        }
+
+        private synchronized void interrupt() {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+
+        @Override
+        public void beforeFire(Rule rule) {
+
+        }
+
+        @Override
+        public void afterFire(Rule rule) {
+
+        }
+
+        @Override
+        public void evaluationFailed(Rule rule, Facts facts) {
+
+        }
+
+        @Override
+        public void executionFailed(Rule rule, Facts facts) {
+
+        }
+    }
+
+    /**
+     * One virtual thread per session when the running JVM has them (Java 21+), otherwise a cached pool of daemon
+     * threads. It is looked up reflectively because the library targets Java 11.
+     */
+    private static final class DefaultExecutor {
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.debug("Virtual threads are not available, using a cached thread pool");
+                return Executors.newCachedThreadPool(task -> {
+                    Thread thread = new Thread(task, "rule-session");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.acepero13.research.ruleengine.core.engines.batch;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.RuleEngine;
+import com.acepero13.research.ruleengine.model.Rules;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fires one rule set against many independent fact bases in parallel. Engines keep mutable state between the phases
+ * of a fire and cannot be shared, so every worker thread creates its own engine once and reuses it for all the fact
+ * bases it processes.
+ * <pre>{@code
+ * BatchEngine batch = new BatchEngine(DefaultRuleEngine::new);
+ * List<FireOutcome> outcomes = batch.fireAll(rules, records);
+ * }</pre>
+ */
+public class BatchEngine {
+    private final Function<Rules, ? extends RuleEngine> engineFactory;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Worker> workers = new ThreadLocal<>();
+
+    public BatchEngine(Function<Rules, ? extends RuleEngine> engineFactory) {
+        this(engineFactory, ForkJoinPool.commonPool());
+    }
+
+    public BatchEngine(Function<Rules, ? extends RuleEngine> engineFactory, ForkJoinPool pool) {
+        this.engineFactory = Objects.requireNonNull(engineFactory, "Engine factory cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Fires the rules against every fact base on the pool of this engine and waits for all of them. Outcomes are
+     * returned in the iteration order of the fact bases.
+     */
+    public List<FireOutcome> fireAll(Rules rules, Collection<? extends Facts> facts) {
+        Objects.requireNonNull(facts, "Facts cannot be null");
+        return pool.submit(() -> fireAll(rules, facts.stream()).collect(Collectors.toList())).join();
+    }
+
+    /**
+     * Lazily fires the rules against every fact base of the stream. The returned stream is parallel and runs on the
+     * pool that executes its terminal operation (the common pool unless it is started from another
+     * {@link ForkJoinPool}).
+     */
+    public Stream<FireOutcome> fireAll(Rules rules, Stream<? extends Facts> facts) {
+        Objects.requireNonNull(rules, "Rules cannot be null");
+        Objects.requireNonNull(facts, "Facts cannot be null");
+        return facts.parallel().map(f -> fire(rules, f));
+    }
+
+    /**
+     * Fires the rules against a single fact base with the engine of the current thread.
+     */
+    public FireOutcome fire(Rules rules, Facts facts) {
+        Worker worker = workers.get();
+        if (worker == null) {
+            worker = new Worker(engineFactory.apply(rules));
+            workers.set(worker);
+        }
+        return worker.fire(rules, facts);
+    }
+
+    private static final class Worker {
+        private final RuleEngine engine;
+        private final OutcomeRecorder recorder = new OutcomeRecorder();
+
+        private Worker(RuleEngine engine) {
+            this.engine = Objects.requireNonNull(engine, "Engine factory returned null");
+            engine.register(recorder);
+        }
+
+        private FireOutcome fire(Rules rules, Facts facts) {
+            try {
+                engine.fire(rules, facts);
+            } catch (RuntimeException | Error e) {
+                recorder.finish(facts);
+                throw e;
+            }
+            return recorder.finish(facts);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.acepero13.research.ruleengine.core.engines.batch;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What happened when the rules were fired against one fact base: the rules that were executed successfully and the
+ * ones whose condition or action failed, in the order the engine reported them. Failed evaluations are what the engine
+ * reports to {@link com.acepero13.research.ruleengine.api.RulesEventsListener#evaluationFailed}; the
+ * {@link com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine} also reports conditions that did not hold.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class FireOutcome {
+    private final Facts facts;
+    private final List<Rule> firedRules;
+    private final List<Rule> failedEvaluations;
+    private final List<Rule> failedExecutions;
+
+    FireOutcome(Facts facts, List<Rule> firedRules, List<Rule> failedEvaluations, List<Rule> failedExecutions) {
+        this.facts = facts;
+        this.firedRules = Collections.unmodifiableList(firedRules);
+        this.failedEvaluations = Collections.unmodifiableList(failedEvaluations);
+        this.failedExecutions = Collections.unmodifiableList(failedExecutions);
+    }
+}
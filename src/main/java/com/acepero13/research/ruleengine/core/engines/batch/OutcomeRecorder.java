@@ -0,0 +1,65 @@
+package com.acepero13.research.ruleengine.core.engines.batch;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.api.RulesEventsListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener that turns the events of one fire into a {@link FireOutcome}. A recorder can be reused for every fire of the
+ * engine it is registered to, and is confined to the thread driving that engine.
+ */
+public final class OutcomeRecorder implements RulesEventsListener {
+    private List<Rule> fired;
+    private List<Rule> failedEvaluations;
+    private List<Rule> failedExecutions;
+
+    /**
+     * Outcome of the events recorded since the last call, which starts recording the next fire.
+     */
+    public FireOutcome finish(Facts facts) {
+        FireOutcome outcome = new FireOutcome(facts, orEmpty(fired), orEmpty(failedEvaluations), orEmpty(failedExecutions));
+        fired = null;
+        failedEvaluations = null;
+        failedExecutions = null;
+        return outcome;
+    }
+
+    @Override
+    public void beforeFire(Rule rule) {
+        fired = add(fired, rule);
+    }
+
+    @Override
+    public void afterFire(Rule rule) {
+
+    }
+
+    @Override
+    public void evaluationFailed(Rule rule, Facts facts) {
+        failedEvaluations = add(failedEvaluations, rule);
+    }
+
+    @Override
+    public void executionFailed(Rule rule, Facts facts) {
+        // beforeFire was already reported for this execution
+        int last = fired == null ? -1 : fired.lastIndexOf(rule);
+        if (last >= 0) {
+            fired.remove(last);
+        }
+        failedExecutions = add(failedExecutions, rule);
+    }
+
+    // Most fact bases fire one or two rules, so the lists are only created when needed
+    private static List<Rule> add(List<Rule> rules, Rule rule) {
+        List<Rule> result = rules == null ? new ArrayList<>(2) : rules;
+        result.add(rule);
+        return result;
+    }
+
+    private static List<Rule> orEmpty(List<Rule> rules) {
+        return rules == null ? List.of() : rules;
+    }
+}
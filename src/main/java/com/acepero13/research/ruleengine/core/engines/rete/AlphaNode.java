@@ -0,0 +1,55 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import com.acepero13.research.ruleengine.model.rules.FactPattern;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tests one {@link FactPattern} and remembers whether the current value of its fact satisfies it (alpha memory).
+ * Alpha nodes are shared by every rule that uses an equal pattern.
+ */
+final class AlphaNode {
+    private static final Logger logger = LogManager.getLogger();
+    private final FactPattern pattern;
+    private final List<BetaNode> successors = new ArrayList<>();
+    private boolean satisfied;
+
+    AlphaNode(FactPattern pattern) {
+        this.pattern = pattern;
+    }
+
+    FactPattern pattern() {
+        return pattern;
+    }
+
+    boolean isSatisfied() {
+        return satisfied;
+    }
+
+    void addSuccessor(BetaNode beta) {
+        successors.add(beta);
+    }
+
+    void reset() {
+        satisfied = false;
+    }
+
+    void update(Object value) {
+        try {
+            satisfied = pattern.test(value);
+        } catch (Exception e) {
+            logger.error("Pattern {} failed with error. {}", pattern, e.getMessage());
+            satisfied = false;
+        }
+    }
+
+    void propagate(Collection<TerminalNode> affected) {
+        for (BetaNode beta : successors) {
+            beta.refresh(affected);
+        }
+    }
+}
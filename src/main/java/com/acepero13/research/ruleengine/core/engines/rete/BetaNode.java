@@ -0,0 +1,51 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Joins the partial match of its parent with one alpha node (beta memory). Facts are unique by name, so a
+ * partial match is fully described by whether every pattern on the path from the root holds; the memory is
+ * therefore a single flag. Beta nodes are shared by rules that start with the same sequence of patterns.
+ */
+final class BetaNode {
+    private final BetaNode parent;
+    private final AlphaNode alpha;
+    private final List<BetaNode> children = new ArrayList<>();
+    private final List<TerminalNode> terminals = new ArrayList<>();
+    private boolean matched;
+
+    BetaNode(BetaNode parent, AlphaNode alpha) {
+        this.parent = parent;
+        this.alpha = alpha;
+    }
+
+    boolean isMatched() {
+        return matched;
+    }
+
+    void addChild(BetaNode child) {
+        children.add(child);
+    }
+
+    void addTerminal(TerminalNode terminal) {
+        terminals.add(terminal);
+    }
+
+    void reset() {
+        matched = false;
+    }
+
+    /**
+     * Recomputes this memory and every memory below it. Every terminal reached is collected, since a modified fact
+     * re-activates the rules that matched it even when the match result itself did not change.
+     */
+    void refresh(Collection<TerminalNode> affected) {
+        matched = (parent == null || parent.matched) && alpha.isSatisfied();
+        affected.addAll(terminals);
+        for (BetaNode child : children) {
+            child.refresh(affected);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import com.acepero13.research.ruleengine.model.rules.NumericCondition;
+
+import java.util.*;
+
+/**
+ * The numeric alpha nodes of one fact, in a centered interval tree over their {@link NumericCondition}s. When the
+ * fact changes, only the nodes satisfied by the previous value and those satisfied by the new one need to be tested
+ * again: the others were false and stay false. Finding the latter is a stabbing query, O(log n + k) for k satisfied
+ * nodes, so a fact tested by thousands of ranges does not touch them all on every change.
+ */
+final class IntervalIndex {
+    private final List<Interval> intervals = new ArrayList<>();
+    private TreeNode root;
+    private boolean built;
+    private List<AlphaNode> satisfied = List.of();
+
+    void add(AlphaNode node) {
+        intervals.add(new Interval(node, node.pattern().numericCondition().orElseThrow()));
+        built = false;
+    }
+
+    /**
+     * Alpha nodes whose memory may change now that the fact holds the given value (null when removed).
+     */
+    Collection<AlphaNode> candidates(Object value) {
+        if (!built) {
+            root = build(intervals);
+            built = true;
+        }
+        List<AlphaNode> now = new ArrayList<>();
+        if (value instanceof Number && root != null) {
+            double number = ((Number) value).doubleValue();
+            if (!Double.isNaN(number)) {
+                root.stab(number, now);
+            }
+        }
+        if (satisfied.isEmpty()) {
+            satisfied = now;
+            return now;
+        }
+        Set<AlphaNode> candidates = new LinkedHashSet<>(satisfied);
+        candidates.addAll(now);
+        satisfied = now;
+        return candidates;
+    }
+
+    void reset() {
+        satisfied = List.of();
+    }
+
+    int size() {
+        return intervals.size();
+    }
+
+    /**
+     * Sorts the intervals once by their inner point; every subtree keeps that order, so its median is its middle
+     * element.
+     */
+    private static TreeNode build(List<Interval> intervals) {
+        List<Interval> nonEmpty = new ArrayList<>();
+        for (Interval interval : intervals) {
+            if (!Double.isNaN(interval.point)) {
+                nonEmpty.add(interval);
+            }
+        }
+        nonEmpty.sort(Comparator.comparingDouble(i -> i.point));
+        return nonEmpty.isEmpty() ? null : new TreeNode(nonEmpty);
+    }
+
+    private static final class Interval {
+        private final AlphaNode node;
+        private final NumericCondition condition;
+        private final double point;
+
+        private Interval(AlphaNode node, NumericCondition condition) {
+            this.node = node;
+            this.condition = condition;
+            this.point = condition.anyValue();
+        }
+    }
+
+    /**
+     * Holds the intervals that contain its center, sorted by low bound and by high bound; intervals entirely below
+     * or above the center go to the subtrees. The center is the median of points taken inside every interval, so
+     * each node holds at least one interval and the tree stays balanced.
+     */
+    private static final class TreeNode {
+        private final double center;
+        private final Interval[] byLow;
+        private final Interval[] byHigh;
+        private final TreeNode left;
+        private final TreeNode right;
+
+        private TreeNode(List<Interval> intervals) {
+            this.center = intervals.get(intervals.size() / 2).point;
+
+            List<Interval> here = new ArrayList<>();
+            List<Interval> below = new ArrayList<>();
+            List<Interval> above = new ArrayList<>();
+            for (Interval interval : intervals) {
+                if (interval.condition.contains(center)) {
+                    here.add(interval);
+                } else if (interval.condition.high() <= center) {
+                    below.add(interval);
+                } else {
+                    above.add(interval);
+                }
+            }
+            this.byLow = here.toArray(new Interval[0]);
+            Arrays.sort(byLow, TreeNode::compareLow);
+            this.byHigh = here.toArray(new Interval[0]);
+            Arrays.sort(byHigh, (a, b) -> compareHigh(b, a));
+            this.left = below.isEmpty() ? null : new TreeNode(below);
+            this.right = above.isEmpty() ? null : new TreeNode(above);
+        }
+
+        /**
+         * Adds every node whose interval contains the value.
+         */
+        private void stab(double value, List<AlphaNode> result) {
+            TreeNode node = this;
+            while (node != null) {
+                if (value < node.center) {
+                    // Every interval here reaches the center, so only the low bound can exclude the value
+                    for (Interval interval : node.byLow) {
+                        if (!interval.condition.contains(value)) {
+                            break;
+                        }
+                        result.add(interval.node);
+                    }
+                    node = node.left;
+                } else if (value > node.center) {
+                    for (Interval interval : node.byHigh) {
+                        if (!interval.condition.contains(value)) {
+                            break;
+                        }
+                        result.add(interval.node);
+                    }
+                    node = node.right;
+                } else {
+                    for (Interval interval : node.byLow) {
+                        result.add(interval.node);
+                    }
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Lowest low bound first; a closed bound is lower than an open one at the same value.
+         */
+        private static int compareLow(Interval a, Interval b) {
+            NumericCondition first = a.condition;
+            NumericCondition second = b.condition;
+            int byValue = Double.compare(first.low(), second.low());
+            return byValue != 0 ? byValue : Boolean.compare(second.isLowInclusive(), first.isLowInclusive());
+        }
+
+        /**
+         * Lowest high bound first; an open bound is lower than a closed one at the same value.
+         */
+        private static int compareHigh(Interval a, Interval b) {
+            NumericCondition first = a.condition;
+            NumericCondition second = b.condition;
+            int byValue = Double.compare(first.high(), second.high());
+            return byValue != 0 ? byValue : Boolean.compare(first.isHighInclusive(), second.isHighInclusive());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import com.acepero13.research.ruleengine.api.*;
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
+import com.acepero13.research.ruleengine.core.tracing.TraceEvent;
+import com.acepero13.research.ruleengine.model.CompiledRules;
+import com.acepero13.research.ruleengine.model.Rules;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+
+/**
+ * Forward chaining engine that compiles the rules into a Rete network (see {@link ReteNetwork}) and only
+ * propagates the facts that changed after each rule execution, instead of re-evaluating every rule.
+ * <p>
+ * The agenda holds one activation per matching rule, ordered by the
+ * {@link ReteEngineParameters#getConflictResolution() conflict resolution strategy}. The first activation is fired
+ * and removed; a rule is activated again only when one of the facts it depends on is modified (refraction).
+ * Changes are observed through {@link FactBaseListener}, so facts mutated in place without a {@code put} are not
+ * seen. Rules built with {@link com.acepero13.research.ruleengine.model.rules.RuleBuilder#given} patterns benefit
+ * the most; rules with opaque conditions are re-evaluated when a fact they read the last time changes.
+ * <p>
+ * A rule whose action modifies a fact it depends on activates itself again, and the engine keeps firing it for as
+ * long as its condition holds. {@link ReteEngineParameters#getMaxActivations()} is unlimited by default, so such a
+ * rule never stops unless its condition eventually fails, a stop condition holds, or a maximum is set.
+ * <p>
+ * The network of the last {@link CompiledRules} version fired is kept, and only rebuilt when another version is
+ * fired, so an engine is meant to be used by one thread at a time.
+ */
+public class ReteEngine implements RuleEngine, FactBaseListener {
+    private static final Logger logger = LogManager.getLogger();
+
+    private final ReteEngineParameters params;
+    private final List<RulesEventsListener> listeners = new ArrayList<>();
+    private volatile Rules rules;
+    private final Set<String> changedFacts = new LinkedHashSet<>();
+    private ReteNetwork network;
+    private long networkVersion;
+
+    public ReteEngine(Rules rules) {
+        this(Objects.requireNonNull(rules, "Rules cannot be null"), ReteEngineParameters.defaultParameters());
+    }
+
+    public ReteEngine(Rules rules, ReteEngineParameters parameters) {
+        this.rules = rules;
+        this.params = parameters;
+    }
+
+    @Override
+    public void fire(Rules rules, Facts facts) {
+        Objects.requireNonNull(rules, "Rules cannot be empty");
+        Objects.requireNonNull(facts, "Facts cannot be null");
+
+        logger.debug("Engine parameters: {}", params);
+        ExecutionTracer tracer = params.getTracer();
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
+        tracer.fireStarted(rules, facts);
+
+        ReteNetwork network = networkFor(rules.compile());
+
+        changedFacts.clear();
+        facts.register(this);
+        int fired;
+        try {
+            network.assertAll(facts);
+            fired = runAgenda(network, facts);
+        } finally {
+            facts.unregister(this);
+        }
+        tracer.fireFinished(facts, fired, tracer.isEnabled() ? System.nanoTime() - start : 0);
+    }
+
+    /**
+     * Fires the activations until the agenda is empty or a stop condition holds, returning how many were fired.
+     */
+    private int runAgenda(ReteNetwork network, Facts facts) {
+        int fired = 0;
+        Rule rule;
+        while ((rule = network.nextActivation()) != null) {
+            if (params.getStopOnCondition().test(facts)) {
+                logger.debug("Stopping because stopCondition from parameters was activated");
+                return fired;
+            }
+            if (params.getMaxActivations() > 0 && fired >= params.getMaxActivations()) {
+                logger.warn("Stopping after reaching the maximum number of activations: {}", params.getMaxActivations());
+                return fired;
+            }
+            if (shouldSkip(rule, facts)) {
+                logger.debug("Skipping rule: {}. With facts: {}", rule, facts);
+                params.getTracer().record(rule, TraceEvent.Phase.EVALUATION, TraceEvent.Outcome.SKIPPED, 0);
+                continue;
+            }
+            tryToFire(facts, rule);
+            fired++;
+            propagateChanges(network, facts);
+        }
+        return fired;
+    }
+
+    private void propagateChanges(ReteNetwork network, Facts facts) {
+        while (!changedFacts.isEmpty()) {
+            List<String> changes = new ArrayList<>(changedFacts);
+            changedFacts.clear();
+            changes.forEach(name -> network.factChanged(name, facts));
+        }
+    }
+
+    /**
+     * The network of the given version, compiled on the first fire of that version.
+     */
+    private ReteNetwork networkFor(CompiledRules compiled) {
+        if (network == null || networkVersion != compiled.version()) {
+            network = ReteNetwork.compile(compiled, this::evaluationSucceeded, params.getConflictResolution());
+            networkVersion = compiled.version();
+            logger.debug("Compiled network with {} alpha nodes and {} beta nodes", network.alphaNodeCount(), network.betaNodeCount());
+        }
+        return network;
+    }
+
+    @Override
+    public void fire(Facts facts) {
+        fire(this.rules, facts);
+    }
+
+    @Override
+    public void publish(CompiledRules rules) {
+        this.rules = Rules.from(rules);
+    }
+
+    @Override
+    public void register(RulesEventsListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unregister(RulesEventsListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void unregisterAll() {
+        listeners.clear();
+    }
+
+    public ReteEngineParameters getParameters() {
+        return params;
+    }
+
+    private boolean shouldSkip(Rule rule, Facts facts) {
+        return listeners.stream().anyMatch(l -> !l.shouldFire(rule, facts));
+    }
+
+    private boolean evaluationSucceeded(Rule rule, Condition condition, Facts facts) {
+        ExecutionTracer tracer = params.getTracer();
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
+        try {
+            boolean result = condition.evaluate(facts);
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EVALUATION,
+                        result ? TraceEvent.Outcome.MATCHED : TraceEvent.Outcome.NOT_MATCHED, System.nanoTime() - start);
+            }
+            return result;
+        } catch (Exception e) {
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EVALUATION, TraceEvent.Outcome.FAILED, System.nanoTime() - start);
+            }
+            listeners.forEach(l -> l.evaluationFailed(rule, facts));
+            logFailure(e, rule);
+            return false;
+        }
+    }
+
+    private void tryToFire(Facts facts, Rule rule) {
+        ExecutionTracer tracer = params.getTracer();
+        long start = tracer.isEnabled() ? System.nanoTime() : 0;
+        try {
+            listeners.forEach(l -> l.beforeFire(rule));
+            rule.execute(facts);
+            listeners.forEach(l -> l.afterFire(rule));
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EXECUTION, TraceEvent.Outcome.SUCCEEDED, System.nanoTime() - start);
+            }
+        } catch (Exception e) {
+            if (tracer.isEnabled()) {
+                tracer.record(rule, TraceEvent.Phase.EXECUTION, TraceEvent.Outcome.FAILED, System.nanoTime() - start);
+            }
+            listeners.forEach(l -> l.executionFailed(rule, facts));
+            logFailure(e, rule);
+        }
+    }
+
+    private void logFailure(Exception e, Rule rule) {
+        var message = "Evaluation failed with error. " + e.getMessage() + " ."
+                + " Failing rule:" + rule;
+        logger.error(message);
+    }
+
+    @Override
+    public <T> void newFactAdded(String name, T value) {
+        logger.debug("New fact {} added to ReteEngine with value: {} ", name, value);
+        changedFacts.add(name);
+    }
+
+    @Override
+    public <T> void newFactReplaced(String name, T value) {
+        logger.debug("Fact {} replaced in ReteEngine with value: {} ", name, value);
+        changedFacts.add(name);
+    }
+}
@@ -0,0 +1,41 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.core.agenda.ConflictResolutionStrategy;
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.function.Predicate;
+
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class ReteEngineParameters {
+    private static final Predicate<Facts> DO_NOT_STOP = f -> false;
+
+    @Builder.Default
+    private final Predicate<Facts> stopOnCondition = DO_NOT_STOP;
+    /**
+     * Maximum number of rule executions per fire. Zero or less means unlimited, which is the default: set it when a
+     * rule may keep modifying the facts it depends on, or the fire may never return.
+     */
+    private final int maxActivations;
+    /**
+     * Receives every evaluated and executed rule. Nothing is traced by default.
+     */
+    @Builder.Default
+    private final ExecutionTracer tracer = ExecutionTracer.NONE;
+    /**
+     * Order in which matching rules fire. Highest priority first by default.
+     */
+    @Builder.Default
+    private final ConflictResolutionStrategy conflictResolution = ConflictResolutionStrategy.SALIENCE;
+
+    public static ReteEngineParameters defaultParameters() {
+        return ReteEngineParameters.builder().build();
+    }
+}
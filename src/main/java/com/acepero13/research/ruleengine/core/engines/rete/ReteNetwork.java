@@ -0,0 +1,242 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import com.acepero13.research.ruleengine.api.Condition;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.agenda.Activation;
+import com.acepero13.research.ruleengine.core.agenda.Agenda;
+import com.acepero13.research.ruleengine.core.agenda.ConflictResolutionStrategy;
+import com.acepero13.research.ruleengine.core.engines.ReadTrackingFacts;
+import com.acepero13.research.ruleengine.model.rules.FactPattern;
+import com.acepero13.research.ruleengine.model.rules.PatternRule;
+
+import java.util.*;
+
+/**
+ * Discrimination network compiled from a rule set. Alpha nodes are indexed by fact name, so a changed fact only
+ * touches the alpha nodes, beta memories and terminals below it. Rules whose condition is opaque keep it as a
+ * residual condition on their terminal, and the facts it read are tracked on every evaluation and indexed by name;
+ * the terminal is re-checked when one of those facts changes. Numeric patterns are kept in an {@link IntervalIndex}
+ * per fact instead, so a change only tests the ranges that held before or hold now.
+ * <p>
+ * Matching terminals are activated on an {@link Agenda}. A terminal reached through a changed fact, or whose residual
+ * condition read it, is reactivated, so recency and time tags reflect the change. Other terminals keep their
+ * activation or, once fired, stay off the agenda (refraction).
+ */
+final class ReteNetwork {
+    private final Map<String, List<AlphaNode>> alphaIndex = new HashMap<>();
+    private final Map<String, IntervalIndex> numericIndex = new HashMap<>();
+    private final Map<FactPattern, AlphaNode> alphaNodes = new HashMap<>();
+    private final Map<BetaKey, BetaNode> betaNodes = new HashMap<>();
+    private final List<TerminalNode> terminals = new ArrayList<>();
+    /**
+     * Residual terminals by the facts their condition read the last time, and those that may read any fact.
+     */
+    private final Map<String, Set<TerminalNode>> residualReaders = new HashMap<>();
+    private final Set<TerminalNode> residualReadingAll = new LinkedHashSet<>();
+    private final Agenda agenda;
+    private final ResidualEvaluator evaluator;
+
+    private ReteNetwork(ResidualEvaluator evaluator, ConflictResolutionStrategy strategy) {
+        this.evaluator = evaluator;
+        this.agenda = new Agenda(strategy);
+    }
+
+    static ReteNetwork compile(Iterable<Rule> rules, ResidualEvaluator evaluator, ConflictResolutionStrategy strategy) {
+        ReteNetwork network = new ReteNetwork(evaluator, strategy);
+        int order = 0;
+        for (Rule rule : rules) {
+            network.addRule(rule, order++);
+        }
+        return network;
+    }
+
+    private void addRule(Rule rule, int order) {
+        List<FactPattern> patterns = List.of();
+        Condition condition = rule::evaluates;
+        if (rule instanceof PatternRule) {
+            patterns = ((PatternRule) rule).patterns();
+            condition = ((PatternRule) rule).condition().orElse(null);
+        }
+
+        BetaNode parent = null;
+        for (FactPattern pattern : patterns) {
+            AlphaNode alpha = alphaNodes.computeIfAbsent(pattern, this::createAlpha);
+            parent = joinNode(parent, alpha);
+        }
+        TerminalNode terminal = new TerminalNode(rule, order, parent, condition);
+        if (parent != null) {
+            parent.addTerminal(terminal);
+        }
+        if (terminal.hasCondition()) {
+            residualReadingAll.add(terminal);
+        }
+        terminals.add(terminal);
+    }
+
+    private AlphaNode createAlpha(FactPattern pattern) {
+        AlphaNode alpha = new AlphaNode(pattern);
+        if (pattern.numericCondition().isPresent()) {
+            numericIndex.computeIfAbsent(pattern.factName(), k -> new IntervalIndex()).add(alpha);
+        } else {
+            alphaIndex.computeIfAbsent(pattern.factName(), k -> new ArrayList<>()).add(alpha);
+        }
+        return alpha;
+    }
+
+    private BetaNode joinNode(BetaNode parent, AlphaNode alpha) {
+        return betaNodes.computeIfAbsent(new BetaKey(parent, alpha), k -> {
+            BetaNode beta = new BetaNode(parent, alpha);
+            alpha.addSuccessor(beta);
+            if (parent != null) {
+                parent.addChild(beta);
+            }
+            return beta;
+        });
+    }
+
+    /**
+     * Clears every memory and asserts the whole fact base, activating all rules that currently match.
+     */
+    void assertAll(Facts facts) {
+        agenda.clear();
+        alphaNodes.values().forEach(AlphaNode::reset);
+        betaNodes.values().forEach(BetaNode::reset);
+        numericIndex.values().forEach(IntervalIndex::reset);
+        Set<TerminalNode> affected = new LinkedHashSet<>();
+        Set<String> names = new HashSet<>(alphaIndex.keySet());
+        names.addAll(numericIndex.keySet());
+        for (String name : names) {
+            updateAlphas(name, facts, affected);
+        }
+        terminals.forEach(t -> recheck(t, facts));
+    }
+
+    /**
+     * Propagates the modification of a single fact through the network.
+     */
+    void factChanged(String name, Facts facts) {
+        agenda.factChanged(name);
+        Set<TerminalNode> affected = new LinkedHashSet<>();
+        updateAlphas(name, facts, affected);
+        affected.forEach(t -> recheck(t, facts));
+        Set<TerminalNode> readers = residualReaders.getOrDefault(name, Set.of());
+        if (readers.isEmpty() && residualReadingAll.isEmpty()) {
+            return;
+        }
+        // Rechecking re-indexes the terminals, so iterate over a copy
+        List<TerminalNode> residuals = new ArrayList<>(residualReadingAll);
+        residuals.addAll(readers);
+        for (TerminalNode terminal : residuals) {
+            if (!affected.contains(terminal)) {
+                recheck(terminal, facts);
+            }
+        }
+    }
+
+    /**
+     * Updates the memories of the alpha nodes of the fact before propagating any of them, since a beta node may
+     * join several patterns on the same fact.
+     */
+    private void updateAlphas(String name, Facts facts, Set<TerminalNode> affected) {
+        List<AlphaNode> alphas = alphaIndex.getOrDefault(name, List.of());
+        IntervalIndex numeric = numericIndex.get(name);
+        if (alphas.isEmpty() && numeric == null) {
+            return;
+        }
+        Object value = facts.get(name).orElse(null);
+        Collection<AlphaNode> ranges = numeric == null ? List.of() : numeric.candidates(value);
+        alphas.forEach(a -> a.update(value));
+        ranges.forEach(a -> a.update(value));
+        alphas.forEach(a -> a.propagate(affected));
+        ranges.forEach(a -> a.propagate(affected));
+    }
+
+    private void recheck(TerminalNode terminal, Facts facts) {
+        Activation activation = terminal.activation();
+        if (terminal.patternsMatch() && residualHolds(terminal, facts)) {
+            agenda.reactivate(activation);
+        } else {
+            agenda.deactivate(activation);
+        }
+    }
+
+    private boolean residualHolds(TerminalNode terminal, Facts facts) {
+        if (!terminal.hasCondition()) {
+            return true;
+        }
+        ReadTrackingFacts tracking = new ReadTrackingFacts(facts);
+        boolean holds = evaluator.evaluate(terminal.rule(), terminal.condition(), tracking);
+        unindexReads(terminal);
+        terminal.evaluatedWith(tracking);
+        indexReads(terminal);
+        return holds;
+    }
+
+    private void indexReads(TerminalNode terminal) {
+        if (terminal.readsAll()) {
+            residualReadingAll.add(terminal);
+            return;
+        }
+        for (String name : terminal.reads()) {
+            residualReaders.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(terminal);
+        }
+    }
+
+    private void unindexReads(TerminalNode terminal) {
+        if (terminal.readsAll()) {
+            residualReadingAll.remove(terminal);
+            return;
+        }
+        for (String name : terminal.reads()) {
+            Set<TerminalNode> readers = residualReaders.get(name);
+            if (readers != null) {
+                readers.remove(terminal);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the rule of the activation that fires first, or {@code null} when the agenda is empty.
+     */
+    Rule nextActivation() {
+        Activation next = agenda.poll();
+        return next == null ? null : next.rule();
+    }
+
+    int alphaNodeCount() {
+        return alphaNodes.size();
+    }
+
+    int betaNodeCount() {
+        return betaNodes.size();
+    }
+
+    @FunctionalInterface
+    interface ResidualEvaluator {
+        boolean evaluate(Rule rule, Condition condition, Facts facts);
+    }
+
+    private static final class BetaKey {
+        private final BetaNode parent;
+        private final AlphaNode alpha;
+
+        private BetaKey(BetaNode parent, AlphaNode alpha) {
+            this.parent = parent;
+            this.alpha = alpha;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BetaKey)) return false;
+            BetaKey other = (BetaKey) o;
+            return parent == other.parent && alpha == other.alpha;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(parent) + System.identityHashCode(alpha);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import com.acepero13.research.ruleengine.api.Condition;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.agenda.Activation;
+import com.acepero13.research.ruleengine.core.engines.ReadTrackingFacts;
+
+import java.util.Set;
+
+/**
+ * End of a rule's path through the network. The rule is activated when its last beta memory matches and its
+ * residual (opaque) condition, if any, holds. The terminal remembers the facts its residual condition read the last
+ * time it was evaluated, so it is only re-checked when one of them changes.
+ */
+final class TerminalNode {
+    private final Rule rule;
+    private final Activation activation;
+    private final BetaNode parent;
+    private final Condition condition;
+    private Set<String> reads = Set.of();
+    private boolean readsAll = true;
+
+    TerminalNode(Rule rule, int order, BetaNode parent, Condition condition) {
+        this.rule = rule;
+        this.activation = Activation.of(rule, order);
+        this.parent = parent;
+        this.condition = condition;
+    }
+
+    Rule rule() {
+        return rule;
+    }
+
+    Activation activation() {
+        return activation;
+    }
+
+    Condition condition() {
+        return condition;
+    }
+
+    boolean hasCondition() {
+        return condition != null;
+    }
+
+    /**
+     * Facts the residual condition read the last time it was evaluated. Only meaningful when {@link #readsAll()} is
+     * false.
+     */
+    Set<String> reads() {
+        return reads;
+    }
+
+    /**
+     * Whether the residual condition may depend on any fact, as it does before its first evaluation.
+     */
+    boolean readsAll() {
+        return readsAll;
+    }
+
+    void evaluatedWith(ReadTrackingFacts tracking) {
+        this.reads = tracking.reads();
+        this.readsAll = tracking.readsAll();
+    }
+
+    boolean patternsMatch() {
+        return parent == null || parent.isMatched();
+    }
+
+    @Override
+    public String toString() {
+        return "TerminalNode{" + rule + "}";
+    }
+}
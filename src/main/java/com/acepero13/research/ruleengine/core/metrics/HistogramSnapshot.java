@@ -0,0 +1,60 @@
+package com.acepero13.research.ruleengine.core.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable copy of a {@link ConcurrentHistogram}. The getters are what JMX shows; {@link #percentile(double)}
+ * answers any other quantile.
+ */
+@Getter
+public final class HistogramSnapshot {
+    @Getter(AccessLevel.NONE)
+    private final long[] counts;
+    private final long count;
+    private final long max;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+
+    HistogramSnapshot(long[] counts, long sum, long max) {
+        this.counts = counts;
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        this.count = total;
+        this.max = max;
+        this.mean = total == 0 ? 0 : (double) sum / total;
+        this.p50 = percentile(50);
+        this.p90 = percentile(90);
+        this.p99 = percentile(99);
+        this.p999 = percentile(99.9);
+    }
+
+    /**
+     * Smallest bucket bound below which the given percentage of the values fall, never above {@link #getMax()}.
+     */
+    public long percentile(double percentage) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(percentage, 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(ConcurrentHistogram.highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{count=" + count + ", mean=" + Math.round(mean) + ", p50=" + p50 + ", p99=" + p99
+                + ", max=" + max + "}";
+    }
+}
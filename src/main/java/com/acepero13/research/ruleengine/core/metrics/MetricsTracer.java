@@ -0,0 +1,155 @@
+package com.acepero13.research.ruleengine.core.metrics;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
+import com.acepero13.research.ruleengine.core.tracing.TraceEvent;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps per rule counters (evaluations, activations, failures, executions) and latency histograms of the condition
+ * and the action, plus the number of fires and cycles per fire of the engine. Recording only adds to striped
+ * counters and lock-free histograms, so it can stay enabled under load; engines and threads may share one tracer.
+ * <p>
+ * Rules are told apart by name. Read the metrics with {@link #snapshot(String)} and {@link #getRules()}, or publish
+ * them through JMX with {@link #registerMBean(String)}.
+ */
+public final class MetricsTracer implements ExecutionTracer, RuleEngineMetricsMXBean {
+    private static final String DOMAIN = "com.acepero13.research.ruleengine";
+
+    private final ConcurrentMap<String, RuleMetrics> rules = new ConcurrentHashMap<>();
+    private final LongAdder fires = new LongAdder();
+    private final LongAdder cycles = new LongAdder();
+    private final ConcurrentHistogram fireLatency = new ConcurrentHistogram();
+    private final ConcurrentHistogram cyclesPerFire = new ConcurrentHistogram();
+
+    @Override
+    public void record(Rule rule, TraceEvent.Phase phase, TraceEvent.Outcome outcome, long nanos) {
+        RuleMetrics metrics = metricsOf(rule.name());
+        switch (outcome) {
+            case SKIPPED:
+                metrics.skipped.increment();
+                break;
+            case MATCHED:
+                metrics.activations.increment();
+                evaluated(metrics, nanos);
+                break;
+            case NOT_MATCHED:
+                evaluated(metrics, nanos);
+                break;
+            case SUCCEEDED:
+                executed(metrics, nanos);
+                break;
+            case FAILED:
+                if (phase == TraceEvent.Phase.EVALUATION) {
+                    metrics.evaluationFailures.increment();
+                    evaluated(metrics, nanos);
+                } else {
+                    metrics.executionFailures.increment();
+                    executed(metrics, nanos);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void evaluated(RuleMetrics metrics, long nanos) {
+        metrics.evaluations.increment();
+        metrics.evaluationLatency.record(nanos);
+    }
+
+    private static void executed(RuleMetrics metrics, long nanos) {
+        metrics.executions.increment();
+        metrics.executionLatency.record(nanos);
+    }
+
+    @Override
+    public void fireFinished(Facts facts, int cycleCount, long nanos) {
+        fires.increment();
+        cycles.add(cycleCount);
+        fireLatency.record(nanos);
+        cyclesPerFire.record(cycleCount);
+    }
+
+    private RuleMetrics metricsOf(String name) {
+        RuleMetrics metrics = rules.get(name);
+        return metrics != null ? metrics : rules.computeIfAbsent(name, RuleMetrics::new);
+    }
+
+    public Optional<RuleMetricsSnapshot> snapshot(String ruleName) {
+        return Optional.ofNullable(rules.get(ruleName)).map(RuleMetrics::snapshot);
+    }
+
+    @Override
+    public Map<String, RuleMetricsSnapshot> getRules() {
+        Map<String, RuleMetricsSnapshot> snapshots = new TreeMap<>();
+        rules.forEach((name, metrics) -> snapshots.put(name, metrics.snapshot()));
+        return snapshots;
+    }
+
+    @Override
+    public long getFireCount() {
+        return fires.sum();
+    }
+
+    @Override
+    public long getCycleCount() {
+        return cycles.sum();
+    }
+
+    @Override
+    public HistogramSnapshot getFireLatency() {
+        return fireLatency.snapshot();
+    }
+
+    @Override
+    public HistogramSnapshot getCyclesPerFire() {
+        return cyclesPerFire.snapshot();
+    }
+
+    /**
+     * Registers this tracer in the platform MBean server as
+     * {@code com.acepero13.research.ruleengine:type=RuleEngineMetrics,name=<name>}.
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            ObjectName objectName = objectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics " + name + " in JMX", e);
+        }
+    }
+
+    public void unregisterMBean(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister metrics " + name + " from JMX", e);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=RuleEngineMetrics,name=" + ObjectName.quote(name));
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsTracer{rules=" + rules.size() + ", fires=" + fires.sum() + "}";
+    }
+}
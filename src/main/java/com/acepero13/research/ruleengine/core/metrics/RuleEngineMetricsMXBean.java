@@ -0,0 +1,21 @@
+package com.acepero13.research.ruleengine.core.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link MetricsTracer}. Every attribute is computed from a fresh snapshot.
+ */
+public interface RuleEngineMetricsMXBean {
+    long getFireCount();
+
+    long getCycleCount();
+
+    HistogramSnapshot getFireLatency();
+
+    HistogramSnapshot getCyclesPerFire();
+
+    /**
+     * Metrics of every rule seen so far, by rule name.
+     */
+    Map<String, RuleMetricsSnapshot> getRules();
+}
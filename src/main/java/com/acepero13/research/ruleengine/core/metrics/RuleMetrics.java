@@ -0,0 +1,28 @@
+package com.acepero13.research.ruleengine.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters and latency histograms of one rule.
+ */
+final class RuleMetrics {
+    private final String name;
+    final LongAdder evaluations = new LongAdder();
+    final LongAdder activations = new LongAdder();
+    final LongAdder evaluationFailures = new LongAdder();
+    final LongAdder skipped = new LongAdder();
+    final LongAdder executions = new LongAdder();
+    final LongAdder executionFailures = new LongAdder();
+    final ConcurrentHistogram evaluationLatency = new ConcurrentHistogram();
+    final ConcurrentHistogram executionLatency = new ConcurrentHistogram();
+
+    RuleMetrics(String name) {
+        this.name = name;
+    }
+
+    RuleMetricsSnapshot snapshot() {
+        return new RuleMetricsSnapshot(name, evaluations.sum(), activations.sum(), evaluationFailures.sum(),
+                skipped.sum(), executions.sum(), executionFailures.sum(), evaluationLatency.snapshot(),
+                executionLatency.snapshot());
+    }
+}
@@ -0,0 +1,36 @@
+package com.acepero13.research.ruleengine.core.metrics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Counters and latencies of one rule at some point in time. Evaluations include the failed ones; activations are
+ * the evaluations whose condition held. Latencies are in nanoseconds.
+ */
+@Getter
+@ToString
+public final class RuleMetricsSnapshot {
+    private final String name;
+    private final long evaluations;
+    private final long activations;
+    private final long evaluationFailures;
+    private final long skipped;
+    private final long executions;
+    private final long executionFailures;
+    private final HistogramSnapshot evaluationLatency;
+    private final HistogramSnapshot executionLatency;
+
+    RuleMetricsSnapshot(String name, long evaluations, long activations, long evaluationFailures, long skipped,
+                        long executions, long executionFailures, HistogramSnapshot evaluationLatency,
+                        HistogramSnapshot executionLatency) {
+        this.name = name;
+        this.evaluations = evaluations;
+        this.activations = activations;
+        this.evaluationFailures = evaluationFailures;
+        this.skipped = skipped;
+        this.executions = executions;
+        this.executionFailures = executionFailures;
+        this.evaluationLatency = evaluationLatency;
+        this.executionLatency = executionLatency;
+    }
+}
@@ -0,0 +1,178 @@
+package com.acepero13.research.ruleengine.core.proxy;
+
+import com.acepero13.research.ruleengine.annotations.Fact;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.FactKey;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Turns an object annotated with {@link com.acepero13.research.ruleengine.annotations.Rule} into a regular
+ * {@link Rule}. The condition and action methods are adapted once per class (see {@link RuleMetadata}) to method
+ * handles of shape {@code (target, Facts) -> result}, and every {@link Fact} parameter gets a resolver that looks
+ * the fact up by a {@link FactKey} resolved once per class ({@code int}, {@code long} and {@code double} parameters
+ * by name through the primitive accessors, so they are not boxed). Compiling an instance only binds those handles to
+ * it, so invoking the rule involves no reflection, no argument lists and no annotation scanning.
+ */
+public final class AnnotatedRuleCompiler {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle RESOLVE_FACT;
+    private static final MethodHandle MISSING_ARGUMENT;
+    private static final MethodHandle IS_TRUE;
+    private static final Map<Class<?>, MethodHandle> PRIMITIVE_RESOLVERS;
+
+    static {
+        try {
+            RESOLVE_FACT = LOOKUP.findStatic(AnnotationHelper.class, "requireFact",
+                    MethodType.methodType(Object.class, Facts.class, FactKey.class));
+            MISSING_ARGUMENT = LOOKUP.findStatic(AnnotatedRuleCompiler.class, "missingArgument",
+                    MethodType.methodType(Object.class, String.class, Facts.class));
+            IS_TRUE = LOOKUP.findVirtual(Boolean.class, "equals", MethodType.methodType(boolean.class, Object.class))
+                    .bindTo(Boolean.TRUE);
+            PRIMITIVE_RESOLVERS = Map.of(
+                    int.class, primitiveResolver("requireInt", int.class),
+                    long.class, primitiveResolver("requireLong", long.class),
+                    double.class, primitiveResolver("requireDouble", double.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle primitiveResolver(String name, Class<?> type)
+            throws NoSuchMethodException, IllegalAccessException {
+        return LOOKUP.findStatic(AnnotationHelper.class, name, MethodType.methodType(type, Facts.class, String.class));
+    }
+
+    private AnnotatedRuleCompiler() {
+    }
+
+    public static Rule compile(Object target) {
+        Objects.requireNonNull(target, "Rule cannot be null");
+        RuleMetadata metadata = RuleMetadata.of(target.getClass());
+        RuleBuilder builder = new RuleBuilder()
+                .name(metadata.name())
+                .priority(metadata.priority())
+                .description(metadata.description());
+        if (metadata.reorderable()) {
+            builder.reorderable();
+        }
+
+        builder.when(metadata.condition()
+                             .map(h -> compileCondition(h.bindTo(target)))
+                             .orElse(facts -> false));
+        metadata.action().ifPresent(h -> builder.then(compileAction(h.bindTo(target))));
+        return builder.build();
+    }
+
+    private static com.acepero13.research.ruleengine.api.Condition compileCondition(MethodHandle handle) {
+        return facts -> invokeCondition(handle, facts);
+    }
+
+    private static com.acepero13.research.ruleengine.api.Action compileAction(MethodHandle handle) {
+        return facts -> invokeAction(handle, facts);
+    }
+
+    /**
+     * Invoker of shape {@code (Object target, Facts) -> boolean} for a condition method. Conditions that do not
+     * return a primitive boolean hold only when they return {@link Boolean#TRUE}.
+     */
+    static MethodHandle conditionInvoker(Method method) {
+        MethodHandle handle = adapt(method);
+        if (method.getReturnType() == boolean.class) {
+            return handle.asType(MethodType.methodType(boolean.class, Object.class, Facts.class));
+        }
+        return MethodHandles.filterReturnValue(
+                handle.asType(MethodType.methodType(Object.class, Object.class, Facts.class)), IS_TRUE);
+    }
+
+    /**
+     * Invoker of shape {@code (Object target, Facts) -> void} for an action method.
+     */
+    static MethodHandle actionInvoker(Method method) {
+        return adapt(method).asType(MethodType.methodType(void.class, Object.class, Facts.class));
+    }
+
+    /**
+     * Adapts the method to take the target and a single {@link Facts} argument, from which every parameter is
+     * resolved.
+     */
+    private static MethodHandle adapt(Method method) {
+        MethodHandle handle = unreflect(method);
+        Class<?> declaringClass = method.getDeclaringClass();
+        Parameter[] parameters = method.getParameters();
+        if (parameters.length == 0) {
+            return MethodHandles.dropArguments(handle, 1, Facts.class);
+        }
+        MethodHandle[] resolvers = new MethodHandle[parameters.length];
+        int[] reorder = new int[parameters.length + 1];
+        for (int i = 0; i < parameters.length; i++) {
+            resolvers[i] = resolverFor(method, parameters[i]);
+            reorder[i + 1] = 1;
+        }
+        MethodHandle filtered = MethodHandles.filterArguments(handle, 1, resolvers);
+        MethodType shape = MethodType.methodType(method.getReturnType(), declaringClass, Facts.class);
+        return MethodHandles.permuteArguments(filtered, shape, reorder);
+    }
+
+    private static MethodHandle resolverFor(Method method, Parameter parameter) {
+        Class<?> type = parameter.getType();
+        Fact fact = parameter.getAnnotation(Fact.class);
+        if (fact != null) {
+            MethodHandle primitive = PRIMITIVE_RESOLVERS.get(type);
+            if (primitive != null) {
+                return MethodHandles.insertArguments(primitive, 1, fact.value());
+            }
+            FactKey<?> key = FactKey.of(fact.value(), MethodType.methodType(type).wrap().returnType());
+            return MethodHandles.insertArguments(RESOLVE_FACT, 1, key)
+                                .asType(MethodType.methodType(type, Facts.class));
+        }
+        if (type.isAssignableFrom(Facts.class)) {
+            return MethodHandles.identity(Facts.class).asType(MethodType.methodType(type, Facts.class));
+        }
+        String message = "Parameter " + parameter.getName() + " of " + method + " is neither a @Fact nor the fact base";
+        return MethodHandles.explicitCastArguments(MethodHandles.insertArguments(MISSING_ARGUMENT, 0, message),
+                MethodType.methodType(type, Facts.class));
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot access method " + method, e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static Object missingArgument(String message, Facts facts) {
+        throw new AnnotationHelper.ArgumentMismatchException(message);
+    }
+
+    private static boolean invokeCondition(MethodHandle handle, Facts facts) {
+        try {
+            return (boolean) handle.invokeExact(facts);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void invokeAction(MethodHandle handle, Facts facts) throws Exception {
+        try {
+            handle.invokeExact(facts);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package com.acepero13.research.ruleengine.core.proxy;
 
-import com.acepero13.research.ruleengine.annotations.Fact;
+import com.acepero13.research.ruleengine.annotations.Action;
+import com.acepero13.research.ruleengine.annotations.Condition;
 import com.acepero13.research.ruleengine.annotations.Rule;
 import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.FactKey;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,17 +16,14 @@ import java.util.stream.Collectors;
 public class AnnotationHelper {
 
     public static Optional<Rule> getRuleAnnotation(Object target) {
-        return Arrays.stream(target.getClass().getAnnotations())
-                .filter(a -> a.annotationType().equals(Rule.class))
-                .map(a -> (Rule) a)
-                .findFirst();
+        return RuleMetadata.of(target.getClass()).annotation();
     }
 
     public static Optional<Method> getMethodForCalling(Object target, Class<? extends Annotation> conditionAnnotation) {
-        return Arrays.stream(target.getClass().getDeclaredMethods())
-                .filter(m -> m.isAnnotationPresent(conditionAnnotation))
-                .findFirst();
-
+        if (conditionAnnotation == Condition.class || conditionAnnotation == Action.class) {
+            return RuleMetadata.of(target.getClass()).method(conditionAnnotation);
+        }
+        return Optional.ofNullable(RuleMetadata.findMethod(target.getClass(), conditionAnnotation));
     }
 
     public static List<Object> getConditionFrom(Method method, Object[] facts) throws RuntimeException {
@@ -37,30 +35,70 @@ public class AnnotationHelper {
         }
         Facts myFacts = (Facts) facts[0];
 
-        Parameter[] methodParameters = method.getParameters();
-        List<Object> parameters = Arrays.stream(methodParameters)
-                .filter(p -> p.isAnnotationPresent(Fact.class))
-                .map(p -> (Fact) p.getAnnotations()[0])
-                .map(Fact::value)
-                .map(myFacts::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-
-        if (parameters.size() != methodParameters.length) {
-            throw new ArgumentMismatchException(buildErrorMessage(myFacts, methodParameters));
+        List<String> factNames = RuleMetadata.of(method.getDeclaringClass()).factNames(method);
+        List<Object> parameters = new ArrayList<>(factNames.size());
+        for (String factName : factNames) {
+            myFacts.get(factName).ifPresent(parameters::add);
+        }
+
+        if (parameters.size() != method.getParameterCount()) {
+            throw new ArgumentMismatchException(buildErrorMessage(myFacts, factNames));
         }
         return parameters;
 
 
     }
 
-    private static String buildErrorMessage(Facts myFacts, Parameter[] methodParameters) {
-        var paramFacts = Arrays.stream(methodParameters)
-                .filter(p -> p.isAnnotationPresent(Fact.class))
-                .map(p -> (Fact) p.getAnnotations()[0])
-                .map(Fact::value)
-                .collect(Collectors.toList());
+    /**
+     * Looks up a fact for a {@link com.acepero13.research.ruleengine.annotations.Fact} parameter, failing like a
+     * reflective invocation would when the fact is missing or has another type.
+     */
+    public static <T> T requireFact(Facts facts, String factName, Class<T> type) {
+        Optional<T> value = facts.get(factName, type);
+        if (value.isPresent()) {
+            return value.get();
+        }
+        if (facts.exists(factName)) {
+            throw new ArgumentMismatchException("Fact " + factName + " is not of type " + type.getName() + ". Fact base: " + facts);
+        }
+        throw new ArgumentMismatchException(buildErrorMessage(facts, List.of(factName)));
+    }
+
+    /**
+     * Variant of {@link #requireFact(Facts, String, Class)} with the fact resolved beforehand, used by compiled and
+     * generated rules.
+     */
+    public static <T> T requireFact(Facts facts, FactKey<T> key) {
+        T value = facts.get(key, null);
+        return value != null ? value : requireFact(facts, key.name(), key.type());
+    }
+
+    /**
+     * Primitive variant of {@link #requireFact(Facts, String, Class)} for {@code int} parameters. Reading a fact stored
+     * with {@link Facts#putInt(String, int)} does not box.
+     */
+    public static int requireInt(Facts facts, String factName) {
+        int value = facts.getInt(factName, Integer.MIN_VALUE);
+        return value != Integer.MIN_VALUE ? value : requireFact(facts, factName, Integer.class);
+    }
+
+    /**
+     * Primitive variant of {@link #requireFact(Facts, String, Class)} for {@code long} parameters.
+     */
+    public static long requireLong(Facts facts, String factName) {
+        long value = facts.getLong(factName, Long.MIN_VALUE);
+        return value != Long.MIN_VALUE ? value : requireFact(facts, factName, Long.class);
+    }
+
+    /**
+     * Primitive variant of {@link #requireFact(Facts, String, Class)} for {@code double} parameters.
+     */
+    public static double requireDouble(Facts facts, String factName) {
+        double value = facts.getDouble(factName, Double.NaN);
+        return !Double.isNaN(value) ? value : requireFact(facts, factName, Double.class);
+    }
+
+    private static String buildErrorMessage(Facts myFacts, List<String> paramFacts) {
         String missingFacts = paramFacts.stream()
                 .filter(f -> !myFacts.exists(f))
                 .collect(Collectors.joining(", "));
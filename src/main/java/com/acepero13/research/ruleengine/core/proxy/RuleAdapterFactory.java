@@ -0,0 +1,16 @@
+package com.acepero13.research.ruleengine.core.proxy;
+
+import com.acepero13.research.ruleengine.api.Rule;
+
+import java.util.Optional;
+
+/**
+ * Service that provides rules for annotated objects without reflection, typically generated at build time by the
+ * rule annotation processor. Implementations are discovered with {@link java.util.ServiceLoader}.
+ */
+public interface RuleAdapterFactory {
+    /**
+     * Returns a rule backed by the target, or empty when this factory has no adapter for its class.
+     */
+    Optional<Rule> adapt(Object target);
+}
@@ -0,0 +1,129 @@
+package com.acepero13.research.ruleengine.core.proxy;
+
+import com.acepero13.research.ruleengine.annotations.Action;
+import com.acepero13.research.ruleengine.annotations.Condition;
+import com.acepero13.research.ruleengine.annotations.Fact;
+import com.acepero13.research.ruleengine.annotations.Rule;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * Everything the engine needs to know about an annotated rule class: its {@link Rule} attributes, the
+ * {@link Condition} and {@link Action} methods, the {@link Fact} names they take and the method handles that invoke
+ * them. It is computed once per class and shared by every instance and thread.
+ */
+public final class RuleMetadata {
+    private static final ClassValue<RuleMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected RuleMetadata computeValue(Class<?> type) {
+            return new RuleMetadata(type);
+        }
+    };
+
+    private final Rule annotation;
+    private final String name;
+    private final int priority;
+    private final String description;
+    private final boolean reorderable;
+    private final Method conditionMethod;
+    private final Method actionMethod;
+    private final Map<Method, List<String>> factNames = new HashMap<>();
+    private final MethodHandle condition;
+    private final MethodHandle action;
+
+    private RuleMetadata(Class<?> type) {
+        this.annotation = type.getAnnotation(Rule.class);
+        this.name = annotation == null ? com.acepero13.research.ruleengine.api.Rule.DEFAULT_NAME : annotation.name();
+        this.priority = annotation == null ? com.acepero13.research.ruleengine.api.Rule.DEFAULT_PRIORITY : annotation.priority();
+        this.description = annotation == null ? com.acepero13.research.ruleengine.api.Rule.DEFAULT_DESCRIPTION : annotation.description();
+        this.reorderable = annotation != null && annotation.reorderable();
+        this.conditionMethod = findMethod(type, Condition.class);
+        this.actionMethod = findMethod(type, Action.class);
+        if (conditionMethod != null) {
+            factNames.put(conditionMethod, scanFactNames(conditionMethod));
+        }
+        if (actionMethod != null) {
+            factNames.put(actionMethod, scanFactNames(actionMethod));
+        }
+        this.condition = conditionMethod == null ? null : AnnotatedRuleCompiler.conditionInvoker(conditionMethod);
+        this.action = actionMethod == null ? null : AnnotatedRuleCompiler.actionInvoker(actionMethod);
+    }
+
+    public static RuleMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public Optional<Rule> annotation() {
+        return Optional.ofNullable(annotation);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int priority() {
+        return priority;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    public boolean reorderable() {
+        return reorderable;
+    }
+
+    public Optional<Method> method(Class<? extends Annotation> annotationType) {
+        if (annotationType == Condition.class) {
+            return Optional.ofNullable(conditionMethod);
+        }
+        if (annotationType == Action.class) {
+            return Optional.ofNullable(actionMethod);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Names of the {@link Fact} parameters of the given method, in declaration order.
+     */
+    public List<String> factNames(Method method) {
+        List<String> names = factNames.get(method);
+        return names != null ? names : scanFactNames(method);
+    }
+
+    /**
+     * Invoker of shape {@code (Object target, Facts) -> boolean}, if the class declares a condition.
+     */
+    Optional<MethodHandle> condition() {
+        return Optional.ofNullable(condition);
+    }
+
+    /**
+     * Invoker of shape {@code (Object target, Facts) -> void}, if the class declares an action.
+     */
+    Optional<MethodHandle> action() {
+        return Optional.ofNullable(action);
+    }
+
+    static Method findMethod(Class<?> type, Class<? extends Annotation> annotationType) {
+        return Arrays.stream(type.getDeclaredMethods())
+                     .filter(m -> m.isAnnotationPresent(annotationType))
+                     .findFirst()
+                     .orElse(null);
+    }
+
+    private static List<String> scanFactNames(Method method) {
+        List<String> names = new ArrayList<>();
+        for (Parameter parameter : method.getParameters()) {
+            Fact fact = parameter.getAnnotation(Fact.class);
+            if (fact != null) {
+                names.add(fact.value());
+            }
+        }
+        return List.copyOf(names);
+    }
+}
@@ -0,0 +1,60 @@
+package com.acepero13.research.ruleengine.core.tracing;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.Rules;
+
+import java.util.List;
+
+/**
+ * Forwards to every enabled tracer. See {@link ExecutionTracer#of(ExecutionTracer...)}.
+ */
+final class CompositeTracer implements ExecutionTracer {
+    private final ExecutionTracer[] tracers;
+
+    CompositeTracer(List<ExecutionTracer> tracers) {
+        this.tracers = tracers.toArray(new ExecutionTracer[0]);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        for (ExecutionTracer tracer : tracers) {
+            if (tracer.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void fireStarted(Rules rules, Facts facts) {
+        for (ExecutionTracer tracer : tracers) {
+            if (tracer.isEnabled()) {
+                tracer.fireStarted(rules, facts);
+            }
+        }
+    }
+
+    @Override
+    public void record(Rule rule, TraceEvent.Phase phase, TraceEvent.Outcome outcome, long nanos) {
+        for (ExecutionTracer tracer : tracers) {
+            if (tracer.isEnabled()) {
+                tracer.record(rule, phase, outcome, nanos);
+            }
+        }
+    }
+
+    @Override
+    public void fireFinished(Facts facts, int cycles, long nanos) {
+        for (ExecutionTracer tracer : tracers) {
+            if (tracer.isEnabled()) {
+                tracer.fireFinished(facts, cycles, nanos);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeTracer" + List.of(tracers);
+    }
+}
@@ -0,0 +1,61 @@
+package com.acepero13.research.ruleengine.core.tracing;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.Rules;
+
+import java.util.List;
+
+/**
+ * Receives what an engine does while firing: every evaluated, skipped and executed rule with the time it took. It is
+ * set through the engine parameters and called on the thread that fires, so implementations must be cheap; the
+ * engines only read the clock when {@link #isEnabled()} is true.
+ */
+public interface ExecutionTracer {
+    /**
+     * Tracer that records nothing. Engines use it unless told otherwise.
+     */
+    ExecutionTracer NONE = new ExecutionTracer() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(Rule rule, TraceEvent.Phase phase, TraceEvent.Outcome outcome, long nanos) {
+            // Nothing to record
+        }
+
+        @Override
+        public String toString() {
+            return "ExecutionTracer.NONE";
+        }
+    };
+
+    /**
+     * Tracer that forwards everything to the given ones, for instance to keep metrics and a ring buffer at once.
+     */
+    static ExecutionTracer of(ExecutionTracer... tracers) {
+        return new CompositeTracer(List.of(tracers));
+    }
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    default void fireStarted(Rules rules, Facts facts) {
+    }
+
+    /**
+     * One step of a fire. {@code nanos} is the time spent evaluating or executing the rule, zero for skipped rules.
+     */
+    void record(Rule rule, TraceEvent.Phase phase, TraceEvent.Outcome outcome, long nanos);
+
+    /**
+     * @param cycles match-act cycles of the fire: one for engines that do not chain, the number of fired
+     *               activations for the Rete engine
+     * @param nanos  duration of the whole fire
+     */
+    default void fireFinished(Facts facts, int cycles, long nanos) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.acepero13.research.ruleengine.core.tracing;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.utils.LoggingUtils;
+import com.acepero13.research.ruleengine.model.Rules;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Logs every rule, every fact and every step of a fire, as the engines used to do at INFO level. Meant for
+ * debugging: printing the whole fact base usually costs more than evaluating the rules.
+ */
+public final class LoggingTracer implements ExecutionTracer {
+    private static final Logger logger = LogManager.getLogger();
+    private final Level level;
+
+    public LoggingTracer() {
+        this(Level.DEBUG);
+    }
+
+    public LoggingTracer(Level level) {
+        this.level = level;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return logger.isEnabled(level);
+    }
+
+    @Override
+    public void fireStarted(Rules rules, Facts facts) {
+        logger.log(level, "Registered rules:");
+        LoggingUtils.logIterable(rules, logger, level);
+        logger.log(level, "Known facts:");
+        LoggingUtils.logIterable(facts, logger, level);
+    }
+
+    @Override
+    public void record(Rule rule, TraceEvent.Phase phase, TraceEvent.Outcome outcome, long nanos) {
+        switch (outcome) {
+            case MATCHED:
+                logger.log(level, "Rule: '{}' is activated ({} ns)", rule, nanos);
+                break;
+            case NOT_MATCHED:
+                logger.log(level, "Rule: '{}' is NOT activated ({} ns)", rule, nanos);
+                break;
+            case SKIPPED:
+                logger.log(level, "Skipping rule: '{}'", rule);
+                break;
+            case SUCCEEDED:
+                logger.log(level, "Fired rule: '{}' ({} ns)", rule, nanos);
+                break;
+            case FAILED:
+                logger.log(level, "Rule: '{}' failed during {} ({} ns)", rule, phase, nanos);
+                break;
+            default:
+                logger.log(level, "Rule: '{}' {} {}", rule, phase, outcome);
+        }
+    }
+
+    @Override
+    public void fireFinished(Facts facts, int cycles, long nanos) {
+        logger.log(level, "Finished evaluating rules after {} cycles ({} ns). Facts based after evaluation: {}",
+                cycles, nanos, facts);
+    }
+}
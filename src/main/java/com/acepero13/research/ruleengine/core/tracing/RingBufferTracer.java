@@ -0,0 +1,134 @@
+package com.acepero13.research.ruleengine.core.tracing;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.Rules;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the last events of every fire in preallocated arrays, overwriting the oldest ones, so recording allocates
+ * nothing and never touches the facts. The events are read back with {@link #snapshot()} or {@link #dump(Consumer)},
+ * and optionally logged at ERROR level as soon as a rule fails.
+ * <p>
+ * Several engines and threads may share one tracer. Events being overwritten while a snapshot is taken are left out
+ * of it.
+ */
+public final class RingBufferTracer implements ExecutionTracer {
+    private static final Logger logger = LogManager.getLogger();
+    private static final TraceEvent.Phase[] PHASES = TraceEvent.Phase.values();
+    private static final TraceEvent.Outcome[] OUTCOMES = TraceEvent.Outcome.values();
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private final int mask;
+    private final boolean dumpOnFailure;
+    private final AtomicLong next = new AtomicLong();
+    /**
+     * Sequence + 1 of the event held by each slot; zero while the slot is empty or being written.
+     */
+    private final AtomicLongArray published;
+    private final Rule[] rules;
+    private final byte[] phases;
+    private final byte[] outcomes;
+    private final long[] nanos;
+    private final int[] cycles;
+
+    public RingBufferTracer() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param capacity      number of events kept, rounded up to a power of two and capped at {@link #MAX_CAPACITY}
+     * @param dumpOnFailure whether to log the buffer when a rule evaluation or execution fails
+     */
+    public RingBufferTracer(int capacity, boolean dumpOnFailure) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int capped = Math.min(capacity, MAX_CAPACITY);
+        int size = capped == 1 ? 1 : Integer.highestOneBit(capped - 1) << 1;
+        this.mask = size - 1;
+        this.dumpOnFailure = dumpOnFailure;
+        this.published = new AtomicLongArray(size);
+        this.rules = new Rule[size];
+        this.phases = new byte[size];
+        this.outcomes = new byte[size];
+        this.nanos = new long[size];
+        this.cycles = new int[size];
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public void fireStarted(Rules rules, Facts facts) {
+        write(null, TraceEvent.Phase.FIRE, TraceEvent.Outcome.STARTED, 0, 0);
+    }
+
+    @Override
+    public void record(Rule rule, TraceEvent.Phase phase, TraceEvent.Outcome outcome, long nanos) {
+        write(rule, phase, outcome, nanos, 0);
+        if (dumpOnFailure && outcome == TraceEvent.Outcome.FAILED) {
+            logger.error("Rule '{}' failed. Last trace events:", rule.name());
+            dump(logger::error);
+        }
+    }
+
+    @Override
+    public void fireFinished(Facts facts, int cycles, long nanos) {
+        write(null, TraceEvent.Phase.FIRE, TraceEvent.Outcome.FINISHED, nanos, cycles);
+    }
+
+    private void write(Rule rule, TraceEvent.Phase phase, TraceEvent.Outcome outcome, long duration, int cycleCount) {
+        long sequence = next.getAndIncrement();
+        int slot = (int) sequence & mask;
+        published.set(slot, 0);
+        VarHandle.storeStoreFence();
+        rules[slot] = rule;
+        phases[slot] = (byte) phase.ordinal();
+        outcomes[slot] = (byte) outcome.ordinal();
+        nanos[slot] = duration;
+        cycles[slot] = cycleCount;
+        published.set(slot, sequence + 1);
+    }
+
+    /**
+     * The events currently in the buffer, oldest first.
+     */
+    public List<TraceEvent> snapshot() {
+        long end = next.get();
+        long start = Math.max(0, end - capacity());
+        List<TraceEvent> events = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence + 1) {
+                continue;
+            }
+            TraceEvent event = new TraceEvent(sequence, rules[slot], PHASES[phases[slot]],
+                    OUTCOMES[outcomes[slot]], nanos[slot], cycles[slot]);
+            VarHandle.loadLoadFence();
+            if (published.get(slot) == sequence + 1) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    public void dump(Consumer<String> sink) {
+        snapshot().forEach(event -> sink.accept(event.toString()));
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferTracer{capacity=" + capacity() + ", recorded=" + next.get() + "}";
+    }
+}
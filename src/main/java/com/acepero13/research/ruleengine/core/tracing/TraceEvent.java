@@ -0,0 +1,50 @@
+package com.acepero13.research.ruleengine.core.tracing;
+
+import com.acepero13.research.ruleengine.api.Rule;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * One event read back from a {@link RingBufferTracer}. Fire events ({@link Phase#FIRE}) have no rule; the finished
+ * one carries the number of cycles and the duration of the fire.
+ */
+@Getter
+@EqualsAndHashCode
+public final class TraceEvent {
+    private final long sequence;
+    private final Rule rule;
+    private final Phase phase;
+    private final Outcome outcome;
+    private final long nanos;
+    private final int cycles;
+
+    TraceEvent(long sequence, Rule rule, Phase phase, Outcome outcome, long nanos, int cycles) {
+        this.sequence = sequence;
+        this.rule = rule;
+        this.phase = phase;
+        this.outcome = outcome;
+        this.nanos = nanos;
+        this.cycles = cycles;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder().append('#').append(sequence).append(' ').append(phase).append(' ')
+                                                .append(outcome);
+        if (rule != null) {
+            text.append(" '").append(rule.name()).append('\'');
+        }
+        if (phase == Phase.FIRE && outcome == Outcome.FINISHED) {
+            text.append(" after ").append(cycles).append(" cycles");
+        }
+        return text.append(" (").append(nanos).append(" ns)").toString();
+    }
+
+    public enum Phase {
+        FIRE, EVALUATION, EXECUTION
+    }
+
+    public enum Outcome {
+        STARTED, FINISHED, MATCHED, NOT_MATCHED, SKIPPED, SUCCEEDED, FAILED
+    }
+}
@@ -1,5 +1,6 @@
 package com.acepero13.research.ruleengine.core.utils;
 
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 
 /**
@@ -9,8 +10,15 @@ import org.apache.logging.log4j.Logger;
  */
 public class LoggingUtils {
     public static <T> void logIterable(Iterable<T> items, Logger logger) {
+        logIterable(items, logger, Level.INFO);
+    }
+
+    public static <T> void logIterable(Iterable<T> items, Logger logger, Level level) {
+        if (!logger.isEnabled(level)) {
+            return;
+        }
         for (T item : items) {
-            logger.info(item);
+            logger.log(level, item);
         }
     }
 }
@@ -0,0 +1,118 @@
+package com.acepero13.research.ruleengine.model;
+
+import java.util.*;
+
+/**
+ * Version bookkeeping shared by the fact bases that track changes. Every change bumps the version of the fact base
+ * and stamps the fact with it; the facts are also indexed by the version of their last change, so
+ * {@link #changesSince(long)} takes time proportional to the number of changed facts, not to the size of the fact
+ * base.
+ * <p>
+ * Deleted facts keep a small entry so that their deletion can be reported. A fact updated or deleted before the
+ * journal saw it being created is taken to have existed from before, as the facts of the base of
+ * {@link LayeredFacts} do. Not thread-safe.
+ */
+public final class ChangeJournal {
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final NavigableMap<Long, String> byVersion = new TreeMap<>();
+    private long version;
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Version of the last change of the fact, zero if it never existed.
+     */
+    public long version(String factName) {
+        Entry entry = entries.get(factName);
+        return entry == null ? 0 : entry.lastChange;
+    }
+
+    public void created(String factName) {
+        Entry entry = entries.get(factName);
+        long stamp = stamp(factName, entry);
+        if (entry == null || entry.deleted) {
+            entries.put(factName, new Entry(stamp));
+        } else {
+            entry.lastChange = stamp;
+        }
+    }
+
+    public void updated(String factName) {
+        Entry entry = entries.get(factName);
+        if (entry != null && entry.deleted) {
+            created(factName);
+            return;
+        }
+        if (entry == null) {
+            entries.put(factName, new Entry(0, stamp(factName, null)));
+        } else {
+            entry.lastChange = stamp(factName, entry);
+        }
+    }
+
+    public void deleted(String factName) {
+        Entry entry = entries.get(factName);
+        if (entry != null && entry.deleted) {
+            return;
+        }
+        if (entry == null) {
+            entry = new Entry(0, stamp(factName, null));
+            entries.put(factName, entry);
+        } else {
+            entry.lastChange = stamp(factName, entry);
+        }
+        entry.deleted = true;
+    }
+
+    private long stamp(String factName, Entry entry) {
+        if (entry != null) {
+            byVersion.remove(entry.lastChange);
+        }
+        byVersion.put(++version, factName);
+        return version;
+    }
+
+    /**
+     * Facts changed after the given version, up to the current one. A fact deleted and created again within the
+     * range is reported as created.
+     */
+    public ChangeSet changesSince(long since) {
+        if (since >= version) {
+            return ChangeSet.empty(version);
+        }
+        Set<String> created = new LinkedHashSet<>();
+        Set<String> updated = new LinkedHashSet<>();
+        Set<String> deleted = new LinkedHashSet<>();
+        for (String name : byVersion.tailMap(since, false).values()) {
+            Entry entry = entries.get(name);
+            boolean createdInRange = entry.created > since;
+            if (entry.deleted) {
+                if (!createdInRange) {
+                    deleted.add(name);
+                }
+            } else if (createdInRange) {
+                created.add(name);
+            } else {
+                updated.add(name);
+            }
+        }
+        return new ChangeSet(since, version, created, updated, deleted);
+    }
+
+    private static final class Entry {
+        private final long created;
+        private long lastChange;
+        private boolean deleted;
+
+        private Entry(long created) {
+            this(created, created);
+        }
+
+        private Entry(long created, long lastChange) {
+            this.created = created;
+            this.lastChange = lastChange;
+        }
+    }
+}
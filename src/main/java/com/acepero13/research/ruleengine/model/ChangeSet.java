@@ -0,0 +1,44 @@
+package com.acepero13.research.ruleengine.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Names of the facts created, updated and deleted between two versions of a fact base, each in the order of its
+ * last change. A fact appears in one set only: created wins over updated, and a fact created and deleted within the
+ * range does not appear at all.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class ChangeSet {
+    private final long fromVersion;
+    private final long toVersion;
+    private final Set<String> created;
+    private final Set<String> updated;
+    private final Set<String> deleted;
+
+    ChangeSet(long fromVersion, long toVersion, Set<String> created, Set<String> updated, Set<String> deleted) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.created = Collections.unmodifiableSet(created);
+        this.updated = Collections.unmodifiableSet(updated);
+        this.deleted = Collections.unmodifiableSet(deleted);
+    }
+
+    static ChangeSet empty(long version) {
+        return new ChangeSet(version, version, Set.of(), Set.of(), Set.of());
+    }
+
+    public boolean isEmpty() {
+        return created.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+    }
+
+    public boolean contains(String factName) {
+        return created.contains(factName) || updated.contains(factName) || deleted.contains(factName);
+    }
+}
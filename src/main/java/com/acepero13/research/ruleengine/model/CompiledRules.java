@@ -0,0 +1,176 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.Rule;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * One immutable version of a rule set, sorted by priority (highest first, registration order among equals). It is
+ * what {@link Rules#compile()} returns and what engines {@code publish}: an engine reads its current version once
+ * when a fire starts, so publishing a new one swaps the rules atomically without locking the fires. Fires already
+ * running finish with the version they started with.
+ * <p>
+ * Versions are unique and increase over all rule sets, so engines can cache whatever they derive from one, such as a
+ * Rete network, keyed on {@link #version()}.
+ */
+public final class CompiledRules implements Iterable<Rule> {
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final long version;
+    private final List<Rule> sorted;
+    private final Set<Rule> members;
+
+    private CompiledRules(Rule[] sorted, Set<Rule> members) {
+        this.version = VERSIONS.incrementAndGet();
+        this.sorted = Collections.unmodifiableList(Arrays.asList(sorted));
+        this.members = members;
+    }
+
+    /**
+     * Compiles the rules in iteration order, dropping duplicates.
+     */
+    public static CompiledRules of(Collection<? extends Rule> rules) {
+        Set<Rule> members = new LinkedHashSet<>(rules);
+        Rule[] array = members.toArray(new Rule[0]);
+        Arrays.sort(array);
+        return new CompiledRules(array, Collections.unmodifiableSet(members));
+    }
+
+    public static CompiledRules of(Rule... rules) {
+        return of(List.of(rules));
+    }
+
+    /**
+     * A new version with the rule added after the registered rules of the same priority, or this one when the rule is
+     * already there.
+     */
+    public CompiledRules with(Rule rule) {
+        Objects.requireNonNull(rule, "Rule cannot be null");
+        if (members.contains(rule)) {
+            return this;
+        }
+        int position = insertionPoint(rule);
+        Rule[] array = new Rule[sorted.size() + 1];
+        for (int i = 0; i < position; i++) {
+            array[i] = sorted.get(i);
+        }
+        array[position] = rule;
+        for (int i = position; i < sorted.size(); i++) {
+            array[i + 1] = sorted.get(i);
+        }
+        Set<Rule> added = new LinkedHashSet<>(members);
+        added.add(rule);
+        return new CompiledRules(array, Collections.unmodifiableSet(added));
+    }
+
+    /**
+     * A new version with the rules added in iteration order, after the registered rules of the same priority. The rules
+     * are sorted once, so adding n rules costs O(n log n) instead of one copy per rule. Returns this one when every
+     * rule is already there.
+     */
+    public CompiledRules withAll(Collection<? extends Rule> rules) {
+        Objects.requireNonNull(rules, "Rules cannot be null");
+        Set<Rule> added = new LinkedHashSet<>(members);
+        for (Rule rule : rules) {
+            added.add(Objects.requireNonNull(rule, "Rule cannot be null"));
+        }
+        if (added.size() == members.size()) {
+            return this;
+        }
+        // The registered rules come first in the array and the sort is stable, so they stay ahead of equal ones
+        Rule[] array = sorted.toArray(new Rule[added.size()]);
+        int next = sorted.size();
+        Iterator<Rule> iterator = added.iterator();
+        for (int i = 0; i < members.size(); i++) {
+            iterator.next();
+        }
+        while (iterator.hasNext()) {
+            array[next++] = iterator.next();
+        }
+        Arrays.sort(array);
+        return new CompiledRules(array, Collections.unmodifiableSet(added));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * The rules sorted by priority, as an immutable, random access list.
+     */
+    public List<Rule> sorted() {
+        return sorted;
+    }
+
+    /**
+     * Prefix of {@link #sorted()} with the rules whose priority is at least the given one.
+     */
+    public List<Rule> withPriorityAtLeast(int priority) {
+        return sorted.subList(0, countAtLeast(priority));
+    }
+
+    public boolean contains(Rule rule) {
+        return members.contains(rule);
+    }
+
+    public int size() {
+        return sorted.size();
+    }
+
+    public boolean isEmpty() {
+        return sorted.isEmpty();
+    }
+
+    @Override
+    public Iterator<Rule> iterator() {
+        return sorted.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Rule> action) {
+        for (int i = 0; i < sorted.size(); i++) {
+            action.accept(sorted.get(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledRules(version=" + version + ", rules=" + sorted + ")";
+    }
+
+    /**
+     * Position right after the last rule that does not sort after the given one.
+     */
+    private int insertionPoint(Rule rule) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).compareTo(rule) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Binary search for the number of leading rules (priority descending) with a priority of at least the given one.
+     */
+    private int countAtLeast(int priority) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).priority() >= priority) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
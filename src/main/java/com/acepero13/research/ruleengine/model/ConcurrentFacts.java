@@ -0,0 +1,309 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import lombok.ToString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fact base that can be shared by several threads. Reads never lock. Writes to a fact take the lock of the stripe its
+ * name hashes to, so writes to the same fact are serialized (which makes {@link #updatesIfExists} an atomic
+ * read-modify-write) while writes to other facts mostly proceed in parallel. Listeners and consumers are notified
+ * while the stripe is held, so they see the changes of a fact in the order they happened; they should therefore be
+ * quick and must not wait on other threads writing facts. Listeners and consumers may be registered at any time,
+ * also from within a notification. Notifications follow the same rules as {@link InMemoryFacts}.
+ * <p>
+ * Changes are versioned like in {@link IndexedFacts}, from an atomic clock: a change stamps its fact while holding
+ * the stripe. The last change of every fact is also indexed by version, so {@link #changesSince(long)} only visits
+ * the facts that changed. It is weakly consistent, like iteration.
+ */
+@ToString
+public class ConcurrentFacts implements Facts {
+    private static final Logger logger = LogManager.getLogger();
+    private static final int DEFAULT_STRIPES = 64;
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final ConcurrentMap<String, Fact<?>> facts = new ConcurrentHashMap<>();
+    @ToString.Exclude
+    private final List<FactBaseListener> listeners = new CopyOnWriteArrayList<>();
+    @ToString.Exclude
+    private final ConcurrentMap<String, List<Consumer<FactsOperation>>> consumers = new ConcurrentHashMap<>();
+    @ToString.Exclude
+    private final ReentrantLock[] stripes;
+    @ToString.Exclude
+    private final AtomicLong clock = new AtomicLong();
+    /**
+     * Last change of every fact, written under the stripe of the fact. Removed facts keep theirs.
+     */
+    @ToString.Exclude
+    private final ConcurrentMap<String, Stamp> stamps = new ConcurrentHashMap<>();
+    /**
+     * Name of the fact every version in {@link #stamps} belongs to. Superseded versions are dropped.
+     */
+    @ToString.Exclude
+    private final ConcurrentSkipListMap<Long, String> byVersion = new ConcurrentSkipListMap<>();
+
+    public ConcurrentFacts() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param concurrencyLevel expected number of threads writing at the same time, rounded up to a power of two and
+     *                         capped at 65536
+     */
+    public ConcurrentFacts(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive: " + concurrencyLevel);
+        }
+        int capped = Math.min(concurrencyLevel, MAX_STRIPES);
+        int size = capped == 1 ? 1 : Integer.highestOneBit(capped - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public <T> void put(String name, T value) {
+        Objects.requireNonNull(name, "fact name must not be null");
+        Objects.requireNonNull(value, "fact value must not be null");
+        ReentrantLock lock = lockFor(name);
+        lock.lock();
+        try {
+            replace(name, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> void replace(String name, T value) {
+        Fact<?> previous = facts.put(name, new Fact<>(name, value));
+        if (previous == null) {
+            stamp(name, false);
+            notifyConsumers(name, FactsOperation.CREATE);
+            logger.debug("Creating new fact: {} with value {}", name, value);
+            listeners.forEach(l -> l.newFactAdded(name, value));
+        } else if (previous.getValue() != null && !previous.getValue().equals(value)) {
+            stamp(name, false);
+            listeners.forEach(l -> l.newFactReplaced(name, value));
+            logger.debug("Replacing fact {} with value: {}", name, value);
+            notifyConsumers(name, FactsOperation.UPDATE);
+        }
+    }
+
+    @Override
+    public void registerNotificationsFor(String name, Consumer<FactsOperation> consumer) {
+        consumers.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>()).add(consumer);
+    }
+
+    private void notifyConsumers(String name, FactsOperation operation) {
+        List<Consumer<FactsOperation>> forName = consumers.get(name);
+        if (forName != null) {
+            forName.forEach(c -> c.accept(operation));
+        }
+    }
+
+    @Override
+    public void register(FactBaseListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void unregister(FactBaseListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public void unregisterAll() {
+        this.listeners.clear();
+        this.consumers.clear();
+    }
+
+    @Override
+    public void remove(String name) {
+        ReentrantLock lock = lockFor(name);
+        lock.lock();
+        try {
+            if (facts.remove(name) != null) {
+                stamp(name, true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> void add(Fact<T> fact) {
+        Objects.requireNonNull(fact, "Fact cannot be null");
+        ReentrantLock lock = lockFor(fact.name());
+        lock.lock();
+        try {
+            Fact<?> previous = facts.put(fact.name(), fact);
+            if (previous == null || !Objects.equals(previous.getValue(), fact.getValue())) {
+                stamp(fact.name(), false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String factName) {
+        Fact<?> fact = facts.get(factName);
+        if (fact == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((T) fact.getValue());
+    }
+
+    @Override
+    public Optional<Fact<?>> getFact(String factName) {
+        return Optional.ofNullable(facts.get(factName));
+    }
+
+    /**
+     * Weakly consistent: reflects some of the changes made while iterating, and never throws
+     * {@link ConcurrentModificationException}.
+     */
+    @Override
+    public Iterator<Fact<?>> iterator() {
+        return facts.values().iterator();
+    }
+
+    @Override
+    public int total() {
+        return facts.size();
+    }
+
+    @Override
+    public <T> T get(String factName, Class<T> type, T defaultValue) {
+        Object value = valueOf(factName);
+        return type.isInstance(value) ? type.cast(value) : defaultValue;
+    }
+
+    @Override
+    public <T> Optional<T> get(String factName, Class<T> type) {
+        Object value = valueOf(factName);
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    /**
+     * Reads, applies the function and writes back while holding the lock of the fact, so concurrent updates of the
+     * same fact are never lost.
+     */
+    @Override
+    public <T> void updatesIfExists(String factName, Class<T> type, UnaryOperator<T> func) {
+        ReentrantLock lock = lockFor(factName);
+        lock.lock();
+        try {
+            Object value = valueOf(factName);
+            if (type.isInstance(value)) {
+                T updated = func.apply(type.cast(value));
+                Objects.requireNonNull(updated, "fact value must not be null");
+                replace(factName, updated);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean exists(String factName) {
+        return facts.containsKey(factName);
+    }
+
+    @Override
+    public long version() {
+        return clock.get();
+    }
+
+    @Override
+    public long version(String factName) {
+        Stamp stamp = stamps.get(factName);
+        return stamp == null ? 0 : stamp.lastChange;
+    }
+
+    /**
+     * Same classification as {@link ChangeJournal#changesSince(long)}. Changes made while scanning may or may not be
+     * reported.
+     */
+    @Override
+    public ChangeSet changesSince(long version) {
+        long to = clock.get();
+        if (version >= to) {
+            return ChangeSet.empty(to);
+        }
+        Set<String> created = new LinkedHashSet<>();
+        Set<String> updated = new LinkedHashSet<>();
+        Set<String> deleted = new LinkedHashSet<>();
+        for (Map.Entry<Long, String> entry : byVersion.tailMap(version, false).entrySet()) {
+            String name = entry.getValue();
+            Stamp stamp = stamps.get(name);
+            if (stamp == null || stamp.lastChange != entry.getKey()) {
+                // Changed again meanwhile, the newer version comes later
+                continue;
+            }
+            boolean createdInRange = stamp.created > version;
+            if (stamp.deleted) {
+                if (!createdInRange) {
+                    deleted.add(name);
+                }
+            } else if (createdInRange) {
+                created.add(name);
+            } else {
+                updated.add(name);
+            }
+            to = Math.max(to, stamp.lastChange);
+        }
+        return new ChangeSet(version, to, created, updated, deleted);
+    }
+
+    /**
+     * Must be called holding the stripe of the fact.
+     */
+    private void stamp(String name, boolean deleted) {
+        long version = clock.incrementAndGet();
+        Stamp previous = stamps.get(name);
+        boolean recreated = previous == null || previous.deleted;
+        stamps.put(name, new Stamp(recreated ? version : previous.created, version, deleted));
+        byVersion.put(version, name);
+        if (previous != null) {
+            byVersion.remove(previous.lastChange);
+        }
+    }
+
+    private Object valueOf(String factName) {
+        Fact<?> fact = facts.get(factName);
+        return fact == null ? null : fact.getValue();
+    }
+
+    private ReentrantLock lockFor(String name) {
+        int hash = name.hashCode();
+        // Spread the high bits, as HashMap does, so that similar names do not share a stripe
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stamp {
+        private final long created;
+        private final long lastChange;
+        private final boolean deleted;
+
+        private Stamp(long created, long lastChange, boolean deleted) {
+            this.created = created;
+            this.lastChange = lastChange;
+            this.deleted = deleted;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.acepero13.research.ruleengine.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned name of a fact together with the type of its value. The first key created for a fact name assigns it a
+ * dense id, shared by every key with that name; {@link KeyedFacts} uses the id as a slot index, so looking a fact up
+ * by key involves no string hashing nor comparison.
+ * <p>
+ * Keys are meant to be resolved once, as constants or when a rule is built, and reused on every evaluation. Fact
+ * names are never released, so do not create keys for unbounded sets of names.
+ */
+public final class FactKey<T> {
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[64];
+    private static int count;
+
+    private final int id;
+    private final String name;
+    private final Class<T> type;
+
+    private FactKey(int id, String name, Class<T> type) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+    }
+
+    public static <T> FactKey<T> of(String name, Class<T> type) {
+        Objects.requireNonNull(name, "Fact name cannot be null");
+        Objects.requireNonNull(type, "Fact type cannot be null");
+        int id = intern(name);
+        return new FactKey<>(id, nameOf(id), type);
+    }
+
+    /**
+     * Key for a fact of any type.
+     */
+    public static FactKey<Object> of(String name) {
+        return of(name, Object.class);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Id of the given fact name, registering it if it is new.
+     */
+    static int intern(String name) {
+        Integer id = IDS.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * Id of the given fact name, or {@code -1} if no key was ever created for it.
+     */
+    static int lookup(String name) {
+        Integer id = IDS.get(name);
+        return id != null ? id : -1;
+    }
+
+    static String nameOf(int id) {
+        return names[id];
+    }
+
+    private static synchronized int register(String name) {
+        Integer existing = IDS.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = count++;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+        }
+        names[id] = name;
+        // Publishing the id through the map makes the name visible to whoever looks the id up
+        IDS.put(name, id);
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FactKey)) {
+            return false;
+        }
+        FactKey<?> other = (FactKey<?>) o;
+        return id == other.id && type == other.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * id + type.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FactKey{" + name + ": " + type.getSimpleName() + "}";
+    }
+}
@@ -0,0 +1,147 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import lombok.ToString;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable fact base, meant to hold reference data shared by every session and thread, usually below a
+ * {@link LayeredFacts}. Writes throw {@link UnsupportedOperationException}; since facts never change, registering
+ * listeners or consumers has no effect, and the fact base stays at version zero.
+ */
+@ToString
+public final class FrozenFacts implements Facts {
+    private final Map<String, Fact<?>> facts;
+
+    private FrozenFacts(Map<String, Fact<?>> facts) {
+        this.facts = Collections.unmodifiableMap(facts);
+    }
+
+    /**
+     * Snapshot of the facts currently in the given fact base.
+     */
+    public static FrozenFacts copyOf(Facts source) {
+        Objects.requireNonNull(source, "Facts cannot be null");
+        Map<String, Fact<?>> facts = new HashMap<>();
+        for (Fact<?> fact : source) {
+            facts.put(fact.name(), fact);
+        }
+        return new FrozenFacts(facts);
+    }
+
+    public static FrozenFacts of(Map<String, ?> values) {
+        Objects.requireNonNull(values, "Facts cannot be null");
+        Map<String, Fact<?>> facts = new HashMap<>();
+        values.forEach((name, value) -> facts.put(name, new Fact<>(
+                Objects.requireNonNull(name, "fact name must not be null"),
+                Objects.requireNonNull(value, "fact value must not be null"))));
+        return new FrozenFacts(facts);
+    }
+
+    @Override
+    public <T> void put(String name, T value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void registerNotificationsFor(String name, Consumer<FactsOperation> consumer) {
+        // Facts never change
+    }
+
+    @Override
+    public void register(FactBaseListener listener) {
+        // Facts never change
+    }
+
+    @Override
+    public void unregister(FactBaseListener listener) {
+        // Facts never change
+    }
+
+    @Override
+    public void unregisterAll() {
+        // Facts never change
+    }
+
+    @Override
+    public void remove(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public <T> void add(Fact<T> fact) {
+        throw readOnly();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String factName) {
+        Fact<?> fact = facts.get(factName);
+        return fact == null ? Optional.empty() : Optional.ofNullable((T) fact.getValue());
+    }
+
+    @Override
+    public Optional<Fact<?>> getFact(String factName) {
+        return Optional.ofNullable(facts.get(factName));
+    }
+
+    @Override
+    public Iterator<Fact<?>> iterator() {
+        return facts.values().iterator();
+    }
+
+    @Override
+    public int total() {
+        return facts.size();
+    }
+
+    @Override
+    public <T> T get(String factName, Class<T> type, T defaultValue) {
+        Object value = valueOf(factName);
+        return type.isInstance(value) ? type.cast(value) : defaultValue;
+    }
+
+    @Override
+    public <T> Optional<T> get(String factName, Class<T> type) {
+        Object value = valueOf(factName);
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    @Override
+    public <T> void updatesIfExists(String factName, Class<T> type, UnaryOperator<T> func) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean exists(String factName) {
+        return facts.containsKey(factName);
+    }
+
+    @Override
+    public long version() {
+        return 0;
+    }
+
+    @Override
+    public long version(String factName) {
+        return 0;
+    }
+
+    @Override
+    public ChangeSet changesSince(long version) {
+        return ChangeSet.empty(0);
+    }
+
+    private Object valueOf(String factName) {
+        Fact<?> fact = facts.get(factName);
+        return fact == null ? null : fact.getValue();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Frozen facts cannot be modified");
+    }
+}
@@ -16,6 +16,8 @@ public class InMemoryFacts implements Facts {
     private final Set<Fact<?>> facts = new HashSet<>();
     private final List<FactBaseListener> listeners = new ArrayList<>();
     private final Map<String, List<Consumer<FactsOperation>>> consumers = new HashMap<>();
+    @ToString.Exclude
+    private final ChangeJournal journal = new ChangeJournal();
 
     @Override
     public <T> void put(String name, T value) {
@@ -25,7 +27,7 @@ public class InMemoryFacts implements Facts {
         boolean valueExists = opFact.isPresent();
         Object oldValue = opFact.map(Fact::getValue).orElse(null);
         removeAnNotify(name, value, valueExists, oldValue);
-        add(new Fact<>(name, value));
+        facts.add(new Fact<>(name, value));
     }
 
 
@@ -39,13 +41,15 @@ public class InMemoryFacts implements Facts {
     private <T> void removeAnNotify(String name, T value, boolean valueExists, Object oldValue) {
         if (valueExists) {
             if (oldValue != null && !oldValue.equals(value)) {
+                journal.updated(name);
                 listeners.forEach(l -> l.newFactReplaced(name, value));
                 logger.debug("Replacing fact {} with value: {}", name, value);
                 notifyConsumers(name, FactsOperation.UPDATE);
             }
 
-            remove(name);
+            facts.removeIf(f -> f.matchesName(name));
         } else {
+            journal.created(name);
             notifyConsumers(name, FactsOperation.CREATE);
             logger.debug("Creating new fact: {} with value {}", name, value);
             listeners.forEach(l -> l.newFactAdded(name, value));
@@ -77,13 +81,21 @@ public class InMemoryFacts implements Facts {
 
     @Override
     public void remove(String name) {
-        facts.removeIf(f -> f.matchesName(name));
+        if (facts.removeIf(f -> f.matchesName(name))) {
+            journal.deleted(name);
+        }
     }
 
     @Override
     public <T> void add(Fact<T> fact) {
         Objects.requireNonNull(fact, "Fact cannot be null");
+        Object previous = getFact(fact.name()).map(Fact::getValue).orElse(null);
         facts.add(fact);
+        if (previous == null) {
+            journal.created(fact.name());
+        } else if (!previous.equals(fact.getValue())) {
+            journal.updated(fact.name());
+        }
     }
 
 
@@ -146,4 +158,19 @@ public class InMemoryFacts implements Facts {
     public boolean exists(String factName) {
         return facts.stream().anyMatch(f -> f.matchesName(factName));
     }
+
+    @Override
+    public long version() {
+        return journal.version();
+    }
+
+    @Override
+    public long version(String factName) {
+        return journal.version(factName);
+    }
+
+    @Override
+    public ChangeSet changesSince(long version) {
+        return journal.changesSince(version);
+    }
 }
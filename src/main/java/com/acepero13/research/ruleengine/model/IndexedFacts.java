@@ -0,0 +1,316 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import lombok.ToString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fact base keyed by fact name. Lookups, insertions, removals and existence checks are
+ * constant time, in contrast to {@link InMemoryFacts} which scans every fact. Listener and
+ * consumer notifications follow the same rules as {@link InMemoryFacts}.
+ * <p>
+ * Facts written with the primitive accessors ({@link #putInt}, {@link #putDouble}, ...) are stored unboxed and
+ * updated in place, so reading and writing them through the primitive accessors allocates nothing. The generic
+ * accessors still see them as boxed values.
+ * <p>
+ * Every change that notifies (a put of an equal value does not) also bumps the version of the fact base and stamps
+ * the fact with it, see {@link #changesSince(long)}.
+ */
+@ToString
+public class IndexedFacts implements Facts {
+    private static final Logger logger = LogManager.getLogger();
+    /**
+     * Either a {@link Fact} or, for primitive facts, a {@link PrimitiveValue}.
+     */
+    private final Map<String, Object> facts = new HashMap<>();
+    @ToString.Exclude
+    private final List<FactBaseListener> listeners = new ArrayList<>();
+    @ToString.Exclude
+    private final Map<String, List<Consumer<FactsOperation>>> consumers = new HashMap<>();
+    @ToString.Exclude
+    private final ChangeJournal journal = new ChangeJournal();
+
+    @Override
+    public <T> void put(String name, T value) {
+        Objects.requireNonNull(name, "fact name must not be null");
+        Objects.requireNonNull(value, "fact value must not be null");
+        Object previous = valueOf(facts.put(name, new Fact<>(name, value)));
+        if (previous == null) {
+            added(name, value);
+        } else if (!previous.equals(value)) {
+            replaced(name, value);
+        }
+    }
+
+    @Override
+    public void putInt(String name, int value) {
+        Object entry = facts.get(name);
+        if (entry instanceof PrimitiveValue && ((PrimitiveValue) entry).is(PrimitiveValue.Kind.INT)) {
+            update(name, (PrimitiveValue) entry, value);
+        } else {
+            store(name, PrimitiveValue.ofInt(value));
+        }
+    }
+
+    @Override
+    public void putLong(String name, long value) {
+        Object entry = facts.get(name);
+        if (entry instanceof PrimitiveValue && ((PrimitiveValue) entry).is(PrimitiveValue.Kind.LONG)) {
+            update(name, (PrimitiveValue) entry, value);
+        } else {
+            store(name, PrimitiveValue.ofLong(value));
+        }
+    }
+
+    @Override
+    public void putDouble(String name, double value) {
+        Object entry = facts.get(name);
+        if (entry instanceof PrimitiveValue && ((PrimitiveValue) entry).is(PrimitiveValue.Kind.DOUBLE)) {
+            update(name, (PrimitiveValue) entry, PrimitiveValue.bitsOf(value));
+        } else {
+            store(name, PrimitiveValue.ofDouble(value));
+        }
+    }
+
+    @Override
+    public void putBoolean(String name, boolean value) {
+        Object entry = facts.get(name);
+        if (entry instanceof PrimitiveValue && ((PrimitiveValue) entry).is(PrimitiveValue.Kind.BOOLEAN)) {
+            update(name, (PrimitiveValue) entry, PrimitiveValue.bitsOf(value));
+        } else {
+            store(name, PrimitiveValue.ofBoolean(value));
+        }
+    }
+
+    private void update(String name, PrimitiveValue current, long bits) {
+        if (current.set(bits)) {
+            replaced(name, current);
+        }
+    }
+
+    private void store(String name, PrimitiveValue value) {
+        Objects.requireNonNull(name, "fact name must not be null");
+        Object previous = valueOf(facts.put(name, value));
+        if (previous == null) {
+            added(name, value.boxed());
+        } else if (!previous.equals(value.boxed())) {
+            replaced(name, value);
+        }
+    }
+
+    private void added(String name, Object value) {
+        journal.created(name);
+        notifyConsumers(name, FactsOperation.CREATE);
+        logger.debug("Creating new fact: {} with value {}", name, value);
+        listeners.forEach(l -> l.newFactAdded(name, value));
+    }
+
+    private void replaced(String name, PrimitiveValue value) {
+        // Only box when somebody is going to look at the value
+        if (listeners.isEmpty() && !logger.isDebugEnabled()) {
+            journal.updated(name);
+            notifyConsumers(name, FactsOperation.UPDATE);
+        } else {
+            replaced(name, value.boxed());
+        }
+    }
+
+    private void replaced(String name, Object value) {
+        journal.updated(name);
+        listeners.forEach(l -> l.newFactReplaced(name, value));
+        logger.debug("Replacing fact {} with value: {}", name, value);
+        notifyConsumers(name, FactsOperation.UPDATE);
+    }
+
+    @Override
+    public void registerNotificationsFor(String name, Consumer<FactsOperation> consumer) {
+        consumers.computeIfAbsent(name, k -> new ArrayList<>()).add(consumer);
+    }
+
+    private void notifyConsumers(String name, FactsOperation operation) {
+        List<Consumer<FactsOperation>> forName = consumers.get(name);
+        if (forName != null) {
+            forName.forEach(c -> c.accept(operation));
+        }
+    }
+
+    @Override
+    public void register(FactBaseListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void unregister(FactBaseListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public void unregisterAll() {
+        this.listeners.clear();
+        this.consumers.clear();
+    }
+
+    @Override
+    public void remove(String name) {
+        if (facts.remove(name) != null) {
+            journal.deleted(name);
+        }
+    }
+
+    @Override
+    public <T> void add(Fact<T> fact) {
+        Objects.requireNonNull(fact, "Fact cannot be null");
+        Object previous = valueOf(facts.put(fact.name(), fact));
+        if (previous == null) {
+            journal.created(fact.name());
+        } else if (!previous.equals(fact.getValue())) {
+            journal.updated(fact.name());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String factName) {
+        return Optional.ofNullable((T) valueOf(facts.get(factName)));
+    }
+
+    @Override
+    public Optional<Fact<?>> getFact(String factName) {
+        return Optional.ofNullable(factOf(factName, facts.get(factName)));
+    }
+
+    @Override
+    public Iterator<Fact<?>> iterator() {
+        Iterator<Map.Entry<String, Object>> entries = facts.entrySet().iterator();
+        return new Iterator<>() {
+            private String current;
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public Fact<?> next() {
+                Map.Entry<String, Object> entry = entries.next();
+                current = entry.getKey();
+                return factOf(entry.getKey(), entry.getValue());
+            }
+
+            @Override
+            public void remove() {
+                entries.remove();
+                journal.deleted(current);
+            }
+        };
+    }
+
+    @Override
+    public int total() {
+        return facts.size();
+    }
+
+    @Override
+    public <T> T get(String factName, Class<T> type, T defaultValue) {
+        Object value = valueOf(facts.get(factName));
+        return type.isInstance(value) ? type.cast(value) : defaultValue;
+    }
+
+    @Override
+    public <T> Optional<T> get(String factName, Class<T> type) {
+        Object value = valueOf(facts.get(factName));
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    @Override
+    public int getInt(String factName, int defaultValue) {
+        Object entry = facts.get(factName);
+        if (entry instanceof PrimitiveValue) {
+            PrimitiveValue value = (PrimitiveValue) entry;
+            return value.is(PrimitiveValue.Kind.INT) ? value.intValue() : defaultValue;
+        }
+        Object value = valueOf(entry);
+        return value instanceof Integer ? (Integer) value : defaultValue;
+    }
+
+    @Override
+    public long getLong(String factName, long defaultValue) {
+        Object entry = facts.get(factName);
+        if (entry instanceof PrimitiveValue) {
+            PrimitiveValue value = (PrimitiveValue) entry;
+            return value.is(PrimitiveValue.Kind.LONG) ? value.longValue() : defaultValue;
+        }
+        Object value = valueOf(entry);
+        return value instanceof Long ? (Long) value : defaultValue;
+    }
+
+    @Override
+    public double getDouble(String factName, double defaultValue) {
+        Object entry = facts.get(factName);
+        if (entry instanceof PrimitiveValue) {
+            PrimitiveValue value = (PrimitiveValue) entry;
+            return value.is(PrimitiveValue.Kind.DOUBLE) ? value.doubleValue() : defaultValue;
+        }
+        Object value = valueOf(entry);
+        return value instanceof Double ? (Double) value : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(String factName, boolean defaultValue) {
+        Object entry = facts.get(factName);
+        if (entry instanceof PrimitiveValue) {
+            PrimitiveValue value = (PrimitiveValue) entry;
+            return value.is(PrimitiveValue.Kind.BOOLEAN) ? value.booleanValue() : defaultValue;
+        }
+        Object value = valueOf(entry);
+        return value instanceof Boolean ? (Boolean) value : defaultValue;
+    }
+
+    @Override
+    public <T> void updatesIfExists(String factName, Class<T> type, UnaryOperator<T> func) {
+        Object value = valueOf(facts.get(factName));
+        if (type.isInstance(value)) {
+            put(factName, func.apply(type.cast(value)));
+        }
+    }
+
+    @Override
+    public boolean exists(String factName) {
+        return facts.containsKey(factName);
+    }
+
+    @Override
+    public long version() {
+        return journal.version();
+    }
+
+    @Override
+    public long version(String factName) {
+        return journal.version(factName);
+    }
+
+    @Override
+    public ChangeSet changesSince(long version) {
+        return journal.changesSince(version);
+    }
+
+    private static Object valueOf(Object entry) {
+        if (entry instanceof PrimitiveValue) {
+            return ((PrimitiveValue) entry).boxed();
+        }
+        return entry == null ? null : ((Fact<?>) entry).getValue();
+    }
+
+    private static Fact<?> factOf(String name, Object entry) {
+        if (entry instanceof PrimitiveValue) {
+            return new Fact<>(name, ((PrimitiveValue) entry).boxed());
+        }
+        return (Fact<?>) entry;
+    }
+}
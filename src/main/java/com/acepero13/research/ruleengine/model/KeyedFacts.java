@@ -0,0 +1,252 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fact base that stores every fact in a slot indexed by the id of its {@link FactKey}. Accessing a fact by key is an
+ * array load plus a type check; accessing it by name first resolves the name to its id. Listener and consumer
+ * notifications follow the same rules as {@link InMemoryFacts}.
+ * <p>
+ * The slot array grows up to the number of distinct fact names known to {@link FactKey}, so this fact base suits
+ * applications with a fixed vocabulary of facts. Iteration follows the order in which the names were first seen.
+ * Changes are versioned like in {@link IndexedFacts}.
+ */
+public class KeyedFacts implements Facts {
+    private static final Logger logger = LogManager.getLogger();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int total;
+    private final List<FactBaseListener> listeners = new ArrayList<>();
+    private final Map<String, List<Consumer<FactsOperation>>> consumers = new HashMap<>();
+    private final ChangeJournal journal = new ChangeJournal();
+
+    @Override
+    public <T> void put(String name, T value) {
+        Objects.requireNonNull(name, "fact name must not be null");
+        store(FactKey.intern(name), name, value);
+    }
+
+    @Override
+    public <T> void put(FactKey<T> key, T value) {
+        store(key.id(), key.name(), value);
+    }
+
+    private void store(int id, String name, Object value) {
+        Objects.requireNonNull(value, "fact value must not be null");
+        Object previous = set(id, value);
+        if (previous == null) {
+            journal.created(name);
+            notifyConsumers(name, FactsOperation.CREATE);
+            logger.debug("Creating new fact: {} with value {}", name, value);
+            listeners.forEach(l -> l.newFactAdded(name, value));
+        } else if (!previous.equals(value)) {
+            journal.updated(name);
+            listeners.forEach(l -> l.newFactReplaced(name, value));
+            logger.debug("Replacing fact {} with value: {}", name, value);
+            notifyConsumers(name, FactsOperation.UPDATE);
+        }
+    }
+
+    private Object set(int id, Object value) {
+        if (id >= values.length) {
+            values = Arrays.copyOf(values, Math.max(id + 1, values.length * 2));
+        }
+        Object previous = values[id];
+        values[id] = value;
+        if (previous == null) {
+            total++;
+        }
+        return previous;
+    }
+
+    private Object valueAt(int id) {
+        return id >= 0 && id < values.length ? values[id] : null;
+    }
+
+    private void notifyConsumers(String name, FactsOperation operation) {
+        if (consumers.isEmpty()) {
+            return;
+        }
+        List<Consumer<FactsOperation>> forName = consumers.get(name);
+        if (forName != null) {
+            forName.forEach(c -> c.accept(operation));
+        }
+    }
+
+    @Override
+    public void registerNotificationsFor(String name, Consumer<FactsOperation> consumer) {
+        consumers.computeIfAbsent(name, k -> new ArrayList<>()).add(consumer);
+    }
+
+    @Override
+    public void register(FactBaseListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void unregister(FactBaseListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public void unregisterAll() {
+        this.listeners.clear();
+        this.consumers.clear();
+    }
+
+    @Override
+    public void remove(String name) {
+        clear(FactKey.lookup(name));
+    }
+
+    private void clear(int id) {
+        if (valueAt(id) != null) {
+            values[id] = null;
+            total--;
+            journal.deleted(FactKey.nameOf(id));
+        }
+    }
+
+    @Override
+    public <T> void add(Fact<T> fact) {
+        Objects.requireNonNull(fact, "Fact cannot be null");
+        Object value = Objects.requireNonNull(fact.getValue(), "fact value must not be null");
+        Object previous = set(FactKey.intern(fact.name()), value);
+        if (previous == null) {
+            journal.created(fact.name());
+        } else if (!previous.equals(value)) {
+            journal.updated(fact.name());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String factName) {
+        return Optional.ofNullable((T) valueAt(FactKey.lookup(factName)));
+    }
+
+    @Override
+    public <T> Optional<T> get(FactKey<T> key) {
+        Object value = valueAt(key.id());
+        return key.type().isInstance(value) ? Optional.of(key.type().cast(value)) : Optional.empty();
+    }
+
+    @Override
+    public <T> T get(FactKey<T> key, T defaultValue) {
+        Object value = valueAt(key.id());
+        return key.type().isInstance(value) ? key.type().cast(value) : defaultValue;
+    }
+
+    @Override
+    public Optional<Fact<?>> getFact(String factName) {
+        int id = FactKey.lookup(factName);
+        Object value = valueAt(id);
+        return value == null ? Optional.empty() : Optional.of(new Fact<>(FactKey.nameOf(id), value));
+    }
+
+    @Override
+    public int total() {
+        return total;
+    }
+
+    @Override
+    public <T> T get(String factName, Class<T> type, T defaultValue) {
+        Object value = valueAt(FactKey.lookup(factName));
+        return type.isInstance(value) ? type.cast(value) : defaultValue;
+    }
+
+    @Override
+    public <T> Optional<T> get(String factName, Class<T> type) {
+        Object value = valueAt(FactKey.lookup(factName));
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    @Override
+    public <T> void updatesIfExists(String factName, Class<T> type, UnaryOperator<T> func) {
+        int id = FactKey.lookup(factName);
+        Object value = valueAt(id);
+        if (type.isInstance(value)) {
+            store(id, factName, func.apply(type.cast(value)));
+        }
+    }
+
+    @Override
+    public boolean exists(String factName) {
+        return valueAt(FactKey.lookup(factName)) != null;
+    }
+
+    @Override
+    public boolean exists(FactKey<?> key) {
+        return valueAt(key.id()) != null;
+    }
+
+    @Override
+    public long version() {
+        return journal.version();
+    }
+
+    @Override
+    public long version(String factName) {
+        return journal.version(factName);
+    }
+
+    @Override
+    public ChangeSet changesSince(long version) {
+        return journal.changesSince(version);
+    }
+
+    @Override
+    public Iterator<Fact<?>> iterator() {
+        return new Iterator<>() {
+            private int next = advance(0);
+            private int last = -1;
+
+            private int advance(int from) {
+                int id = from;
+                while (id < values.length && values[id] == null) {
+                    id++;
+                }
+                return id;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < values.length;
+            }
+
+            @Override
+            public Fact<?> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = advance(next + 1);
+                return new Fact<>(FactKey.nameOf(last), values[last]);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                clear(last);
+                last = -1;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner facts = new StringJoiner(", ", "KeyedFacts(facts=[", "])");
+        forEach(fact -> facts.add(fact.toString()));
+        return facts.toString();
+    }
+}
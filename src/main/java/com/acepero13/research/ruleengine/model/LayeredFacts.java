@@ -0,0 +1,246 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import lombok.ToString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Session fact base on top of a shared base, typically {@link FrozenFacts}. Reads fall through to the base, while
+ * writes and removals only touch a small local layer, so creating a session costs nothing however large the base is.
+ * Facts of the base that are removed are hidden by a tombstone. The base must not change while it is layered.
+ * Notifications follow the same rules as {@link InMemoryFacts}, with the base facts counting as existing ones.
+ * <p>
+ * Versions continue those of the base: the local changes are numbered after the version the base had when it was
+ * layered (zero for a base that does not track versions), and facts never changed locally report the version of the
+ * base.
+ */
+@ToString
+public class LayeredFacts implements Facts {
+    private static final Logger logger = LogManager.getLogger();
+    @ToString.Exclude
+    private final Facts base;
+    private final Map<String, Fact<?>> local = new HashMap<>();
+    private final Set<String> removed = new HashSet<>();
+    @ToString.Exclude
+    private final ChangeJournal journal = new ChangeJournal();
+    @ToString.Exclude
+    private final long baseVersion;
+    @ToString.Exclude
+    private final List<FactBaseListener> listeners = new ArrayList<>();
+    @ToString.Exclude
+    private final Map<String, List<Consumer<FactsOperation>>> consumers = new HashMap<>();
+    /**
+     * Local facts that do not shadow a base fact; they add to the total.
+     */
+    @ToString.Exclude
+    private int localOnly;
+
+    public LayeredFacts(Facts base) {
+        this.base = Objects.requireNonNull(base, "Base facts cannot be null");
+        this.baseVersion = base.version();
+    }
+
+    @Override
+    public <T> void put(String name, T value) {
+        Objects.requireNonNull(name, "fact name must not be null");
+        Objects.requireNonNull(value, "fact value must not be null");
+        Object previous = valueOf(name);
+        store(new Fact<>(name, value));
+        if (previous == null) {
+            journal.created(name);
+            notifyConsumers(name, FactsOperation.CREATE);
+            logger.debug("Creating new fact: {} with value {}", name, value);
+            listeners.forEach(l -> l.newFactAdded(name, value));
+        } else if (!previous.equals(value)) {
+            journal.updated(name);
+            listeners.forEach(l -> l.newFactReplaced(name, value));
+            logger.debug("Replacing fact {} with value: {}", name, value);
+            notifyConsumers(name, FactsOperation.UPDATE);
+        }
+    }
+
+    private void store(Fact<?> fact) {
+        String name = fact.name();
+        removed.remove(name);
+        if (local.put(name, fact) == null && !base.exists(name)) {
+            localOnly++;
+        }
+    }
+
+    @Override
+    public void registerNotificationsFor(String name, Consumer<FactsOperation> consumer) {
+        consumers.computeIfAbsent(name, k -> new ArrayList<>()).add(consumer);
+    }
+
+    private void notifyConsumers(String name, FactsOperation operation) {
+        List<Consumer<FactsOperation>> forName = consumers.get(name);
+        if (forName != null) {
+            forName.forEach(c -> c.accept(operation));
+        }
+    }
+
+    @Override
+    public void register(FactBaseListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void unregister(FactBaseListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public void unregisterAll() {
+        this.listeners.clear();
+        this.consumers.clear();
+    }
+
+    @Override
+    public void remove(String name) {
+        if (exists(name)) {
+            journal.deleted(name);
+        }
+        boolean inBase = base.exists(name);
+        if (local.remove(name) != null && !inBase) {
+            localOnly--;
+        }
+        if (inBase) {
+            removed.add(name);
+        }
+    }
+
+    @Override
+    public <T> void add(Fact<T> fact) {
+        Objects.requireNonNull(fact, "Fact cannot be null");
+        Object previous = valueOf(fact.name());
+        store(fact);
+        if (previous == null) {
+            journal.created(fact.name());
+        } else if (!previous.equals(fact.getValue())) {
+            journal.updated(fact.name());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String factName) {
+        return Optional.ofNullable((T) valueOf(factName));
+    }
+
+    @Override
+    public Optional<Fact<?>> getFact(String factName) {
+        return Optional.ofNullable(factOf(factName));
+    }
+
+    /**
+     * The local facts followed by the visible facts of the base.
+     */
+    @Override
+    public Iterator<Fact<?>> iterator() {
+        Stream<Fact<?>> visibleBase = StreamSupport.stream(base.spliterator(), false)
+                                                   .filter(f -> !local.containsKey(f.name()) && !removed.contains(f.name()));
+        return Stream.concat(local.values().stream(), visibleBase).iterator();
+    }
+
+    @Override
+    public int total() {
+        return base.total() + localOnly - removed.size();
+    }
+
+    @Override
+    public <T> T get(String factName, Class<T> type, T defaultValue) {
+        Object value = valueOf(factName);
+        return type.isInstance(value) ? type.cast(value) : defaultValue;
+    }
+
+    @Override
+    public <T> Optional<T> get(String factName, Class<T> type) {
+        Object value = valueOf(factName);
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    @Override
+    public <T> void updatesIfExists(String factName, Class<T> type, UnaryOperator<T> func) {
+        Object value = valueOf(factName);
+        if (type.isInstance(value)) {
+            put(factName, func.apply(type.cast(value)));
+        }
+    }
+
+    @Override
+    public boolean exists(String factName) {
+        return factOf(factName) != null;
+    }
+
+    @Override
+    public long version() {
+        return baseVersion + journal.version();
+    }
+
+    @Override
+    public long version(String factName) {
+        long local = journal.version(factName);
+        if (local > 0) {
+            return baseVersion + local;
+        }
+        return base.version(factName);
+    }
+
+    /**
+     * Changes of the base since the given version, if any, followed by the local ones. A fact created in the base
+     * within the range and changed locally is still reported as created.
+     */
+    @Override
+    public ChangeSet changesSince(long version) {
+        ChangeSet local = journal.changesSince(Math.max(0, version - baseVersion));
+        if (version >= baseVersion) {
+            return new ChangeSet(version, version(), local.getCreated(), local.getUpdated(), local.getDeleted());
+        }
+        ChangeSet inBase = base.changesSince(version);
+        Set<String> created = new LinkedHashSet<>(inBase.getCreated());
+        Set<String> updated = new LinkedHashSet<>(inBase.getUpdated());
+        Set<String> deleted = new LinkedHashSet<>(inBase.getDeleted());
+        for (String name : local.getCreated()) {
+            deleted.remove(name);
+            updated.remove(name);
+            created.add(name);
+        }
+        for (String name : local.getUpdated()) {
+            if (!created.contains(name)) {
+                updated.remove(name);
+                updated.add(name);
+            }
+        }
+        for (String name : local.getDeleted()) {
+            updated.remove(name);
+            if (!created.remove(name)) {
+                deleted.add(name);
+            }
+        }
+        return new ChangeSet(version, version(), created, updated, deleted);
+    }
+
+    private Fact<?> factOf(String factName) {
+        Fact<?> fact = local.get(factName);
+        if (fact != null) {
+            return fact;
+        }
+        if (removed.contains(factName)) {
+            return null;
+        }
+        return base.getFact(factName).orElse(null);
+    }
+
+    private Object valueOf(String factName) {
+        Fact<?> fact = factOf(factName);
+        return fact == null ? null : fact.getValue();
+    }
+}
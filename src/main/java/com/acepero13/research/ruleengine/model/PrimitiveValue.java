@@ -0,0 +1,96 @@
+package com.acepero13.research.ruleengine.model;
+
+/**
+ * Unboxed value of an int, long, double or boolean fact, stored as raw bits so that updating it allocates nothing.
+ * It never leaves the fact base: callers of the generic accessors get the boxed value or a regular {@link Fact}.
+ */
+final class PrimitiveValue {
+    enum Kind {
+        INT, LONG, DOUBLE, BOOLEAN
+    }
+
+    private final Kind kind;
+    private long bits;
+
+    private PrimitiveValue(Kind kind, long bits) {
+        this.kind = kind;
+        this.bits = bits;
+    }
+
+    static PrimitiveValue ofInt(int value) {
+        return new PrimitiveValue(Kind.INT, value);
+    }
+
+    static PrimitiveValue ofLong(long value) {
+        return new PrimitiveValue(Kind.LONG, value);
+    }
+
+    static PrimitiveValue ofDouble(double value) {
+        return new PrimitiveValue(Kind.DOUBLE, bitsOf(value));
+    }
+
+    static PrimitiveValue ofBoolean(boolean value) {
+        return new PrimitiveValue(Kind.BOOLEAN, bitsOf(value));
+    }
+
+    /**
+     * Canonical bits of a double, so that comparing bits matches {@link Double#equals}.
+     */
+    static long bitsOf(double value) {
+        return Double.doubleToLongBits(value);
+    }
+
+    static long bitsOf(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    boolean is(Kind kind) {
+        return this.kind == kind;
+    }
+
+    /**
+     * Replaces the value, keeping the kind. Returns whether it changed, with the same meaning as
+     * {@code Object.equals} on the boxed values.
+     */
+    boolean set(long bits) {
+        if (this.bits == bits) {
+            return false;
+        }
+        this.bits = bits;
+        return true;
+    }
+
+    int intValue() {
+        return (int) bits;
+    }
+
+    long longValue() {
+        return bits;
+    }
+
+    double doubleValue() {
+        return Double.longBitsToDouble(bits);
+    }
+
+    boolean booleanValue() {
+        return bits != 0;
+    }
+
+    Object boxed() {
+        switch (kind) {
+            case INT:
+                return intValue();
+            case LONG:
+                return longValue();
+            case DOUBLE:
+                return doubleValue();
+            default:
+                return booleanValue();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(boxed());
+    }
+}
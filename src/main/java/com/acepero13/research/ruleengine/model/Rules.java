@@ -3,30 +3,96 @@ package com.acepero13.research.ruleengine.model;
 import com.acepero13.research.ruleengine.api.Rule;
 import lombok.ToString;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The set of registered rules. It holds an immutable {@link CompiledRules} version, sorted by priority (highest first,
+ * registration order among equals), which {@link #register(Rule)} replaces with a copy and
+ * {@link #register(Collection)} with a single copy for many rules. Reading the rules never locks, sorts nor copies,
+ * and readers keep a consistent version while rules are registered.
+ */
 @ToString
 public class Rules implements Iterable<Rule> {
-    private final Set<Rule> rules = new HashSet<>();
+    private volatile CompiledRules compiled;
 
     public Rules(Rule... rules) {
         Objects.requireNonNull(rules, "Rules cannot be null");
-        Objects.requireNonNull(this.rules, "Rule set cannot be null");
-        this.rules.addAll(List.of(rules));
+        this.compiled = CompiledRules.of(rules);
+    }
+
+    private Rules(CompiledRules compiled) {
+        this.compiled = Objects.requireNonNull(compiled, "Compiled rules cannot be null");
     }
 
     public static Rules of(Rule... rule) {
         return new Rules(rule);
     }
 
+    /**
+     * Rules starting with the given version. Registering rules afterwards does not change that version.
+     */
+    public static Rules from(CompiledRules compiled) {
+        return new Rules(compiled);
+    }
+
     public Rules register(Rule rule) {
-        this.rules.add(rule);
+        synchronized (this) {
+            this.compiled = compiled.with(rule);
+        }
         return this;
     }
 
+    /**
+     * Registers all the rules at once, with a single copy of the current version. Prefer it to calling
+     * {@link #register(Rule)} in a loop, which copies the rules once per call.
+     */
+    public Rules register(Collection<? extends Rule> rules) {
+        synchronized (this) {
+            this.compiled = compiled.withAll(rules);
+        }
+        return this;
+    }
+
+    /**
+     * The current version of the rules. Later registrations do not affect it.
+     */
+    public CompiledRules compile() {
+        return compiled;
+    }
+
+    /**
+     * Immutable, random access snapshot of the rules sorted by priority. Later registrations do not affect it.
+     */
+    public List<Rule> sorted() {
+        return compiled.sorted();
+    }
+
+    /**
+     * Prefix of the {@link #sorted()} snapshot with the rules whose priority is at least the given one.
+     */
+    public List<Rule> withPriorityAtLeast(int priority) {
+        return compiled.withPriorityAtLeast(priority);
+    }
+
+    public int size() {
+        return compiled.size();
+    }
+
+    public boolean isEmpty() {
+        return compiled.isEmpty();
+    }
+
     @Override
     public Iterator<Rule> iterator() {
-        List<Rule> sortedList = new ArrayList<>(rules);
-        Collections.sort(sortedList);
-        return sortedList.iterator();
+        return compiled.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Rule> action) {
+        compiled.forEach(action);
     }
 }
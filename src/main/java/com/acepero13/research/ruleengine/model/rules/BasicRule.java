@@ -3,8 +3,12 @@ package com.acepero13.research.ruleengine.model.rules;
 import com.acepero13.research.ruleengine.api.Rule;
 import lombok.EqualsAndHashCode;
 
+/**
+ * Base of the rules: two rules are equal when they have the same name, description and priority, whether they were
+ * built at runtime or generated from an annotated class.
+ */
 @EqualsAndHashCode
-abstract class BasicRule implements Rule {
+public abstract class BasicRule implements Rule {
     public static final int DEFAULT_PRIORITY = Integer.MAX_VALUE;
     private final String name;
     private final String description;
@@ -0,0 +1,269 @@
+package com.acepero13.research.ruleengine.model.rules;
+
+import com.acepero13.research.ruleengine.api.Action;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.FactKey;
+
+import java.util.*;
+
+/**
+ * A single rule made of rows that test facts for equality, such as "country == DE and tier == gold". The first row
+ * (in table order) whose cells all equal the facts fires its action; {@link #ANY} matches any value, including a
+ * missing fact. Cells are compared with {@code equals}, so an {@code Integer} cell does not match a {@code Long}
+ * fact.
+ * <p>
+ * Rows are hashed on their non-wildcard columns when the table is built: rows with the same wildcard columns share
+ * one hash index, so finding the first matching row costs one lookup per distinct wildcard combination, whatever
+ * the number of rows. Tables are immutable and can be evaluated from several threads.
+ */
+public final class DecisionTable extends BasicRule {
+    /**
+     * Cell that matches any value.
+     */
+    public static final Object ANY = new Object() {
+        @Override
+        public String toString() {
+            return "*";
+        }
+    };
+
+    private final List<String> columns;
+    private final FactKey<?>[] keys;
+    private final List<Row> rows;
+    /**
+     * One index per wildcard combination, ordered by the first row they hold.
+     */
+    private final Index[] indexes;
+
+    private DecisionTable(String name, String description, int priority, List<String> columns, List<Row> rows) {
+        super(name, description, priority);
+        this.columns = List.copyOf(columns);
+        this.rows = List.copyOf(rows);
+        this.keys = new FactKey<?>[columns.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = FactKey.of(columns.get(i));
+        }
+        this.indexes = index(this.rows);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Compiles rules that only test facts for equality ({@link RuleBuilder#givenEquals}) into a single table, one
+     * row per rule, in the iteration order of the rules. Fed with a
+     * {@link com.acepero13.research.ruleengine.model.Rules} set, the table picks the first rule that matches, like
+     * {@code DefaultRuleEngine} with {@code skipOnFirstAppliedRule}, with two differences: the table is a single rule,
+     * so listeners cannot veto the rules it was compiled from with {@code shouldFire}, and when the action of the first
+     * matching row throws, the table fails instead of going on with the next matching rule. The table takes the
+     * priority of the first rule.
+     *
+     * @throws IllegalArgumentException if a rule has a condition or a pattern that is not an equality
+     */
+    public static DecisionTable compile(String name, Iterable<Rule> rules) {
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        List<Map<String, Object>> cells = new ArrayList<>();
+        List<Rule> compiled = new ArrayList<>();
+        for (Rule rule : rules) {
+            cells.add(equalityCells(rule));
+            cells.get(cells.size() - 1).keySet().forEach(c -> columns.putIfAbsent(c, columns.size()));
+            compiled.add(rule);
+        }
+        Builder builder = builder().name(name)
+                                   .priority(compiled.isEmpty() ? DEFAULT_PRIORITY : compiled.get(0).priority())
+                                   .columns(columns.keySet().toArray(new String[0]));
+        for (int i = 0; i < compiled.size(); i++) {
+            Object[] values = new Object[columns.size()];
+            Arrays.fill(values, ANY);
+            cells.get(i).forEach((column, value) -> values[columns.get(column)] = value);
+            builder.row(compiled.get(i)::execute, values);
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Object> equalityCells(Rule rule) {
+        if (!(rule instanceof PatternRule) || ((PatternRule) rule).condition().isPresent()) {
+            throw new IllegalArgumentException("Rule " + rule.name() + " is not made of equality patterns only");
+        }
+        Map<String, Object> cells = new LinkedHashMap<>();
+        for (FactPattern pattern : ((PatternRule) rule).patterns()) {
+            Object expected = pattern.expectedValue().orElseThrow(() -> new IllegalArgumentException(
+                    "Rule " + rule.name() + " has a pattern on " + pattern.factName() + " that is not an equality"));
+            Object previous = cells.putIfAbsent(pattern.factName(), expected);
+            if (previous != null && !previous.equals(expected)) {
+                throw new IllegalArgumentException("Rule " + rule.name() + " can never match " + pattern.factName());
+            }
+        }
+        return cells;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public int rowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Position of the first row that matches the facts, or -1 when none does.
+     */
+    public int firstMatch(Facts facts) {
+        int best = Integer.MAX_VALUE;
+        for (Index index : indexes) {
+            if (index.firstRow >= best) {
+                break;
+            }
+            int row = index.lookup(facts, keys);
+            if (row >= 0 && row < best) {
+                best = row;
+            }
+        }
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    @Override
+    public boolean evaluates(Facts facts) {
+        return firstMatch(facts) >= 0;
+    }
+
+    @Override
+    public void execute(Facts facts) throws Exception {
+        int row = firstMatch(facts);
+        if (row >= 0) {
+            rows.get(row).action.execute(facts);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name() + " DecisionTable" + columns + " with " + rows.size() + " rows";
+    }
+
+    private static Index[] index(List<Row> rows) {
+        Map<BitSet, Index> byMask = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            BitSet mask = new BitSet();
+            for (int c = 0; c < row.cells.length; c++) {
+                if (row.cells[c] != ANY) {
+                    mask.set(c);
+                }
+            }
+            int position = i;
+            byMask.computeIfAbsent(mask, m -> new Index(m.stream().toArray(), position)).add(row.cells, i);
+        }
+        // Insertion order already follows the first row of every index
+        return byMask.values().toArray(new Index[0]);
+    }
+
+    public static final class Builder {
+        private String name = DEFAULT_NAME;
+        private String description = DEFAULT_DESCRIPTION;
+        private int priority = DEFAULT_PRIORITY;
+        private List<String> columns = List.of();
+        private final List<Row> rows = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder priority(int priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Names of the facts the rows test. Must be set before adding rows.
+         */
+        public Builder columns(String... columns) {
+            if (!rows.isEmpty()) {
+                throw new IllegalStateException("Columns must be declared before the rows");
+            }
+            this.columns = List.of(columns);
+            return this;
+        }
+
+        /**
+         * Adds a row with one cell per column; {@link #ANY} matches any value.
+         */
+        public Builder row(Action action, Object... cells) {
+            Objects.requireNonNull(action, "Action cannot be null");
+            if (cells.length != columns.size()) {
+                throw new IllegalArgumentException("Expected " + columns.size() + " cells but got " + cells.length);
+            }
+            for (Object cell : cells) {
+                Objects.requireNonNull(cell, "Cells cannot be null, use DecisionTable.ANY");
+            }
+            rows.add(new Row(cells.clone(), action));
+            return this;
+        }
+
+        public DecisionTable build() {
+            return new DecisionTable(name, description, priority, columns, rows);
+        }
+    }
+
+    private static final class Row {
+        private final Object[] cells;
+        private final Action action;
+
+        private Row(Object[] cells, Action action) {
+            this.cells = cells;
+            this.action = action;
+        }
+    }
+
+    /**
+     * First row for every combination of values of the given columns. A single column is keyed by the value itself.
+     */
+    private static final class Index {
+        private final int[] columns;
+        private final int firstRow;
+        private final Map<Object, Integer> rows = new HashMap<>();
+
+        private Index(int[] columns, int firstRow) {
+            this.columns = columns;
+            this.firstRow = firstRow;
+        }
+
+        private void add(Object[] cells, int row) {
+            Object[] key = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                key[i] = cells[columns[i]];
+            }
+            rows.putIfAbsent(keyOf(key), row);
+        }
+
+        private int lookup(Facts facts, FactKey<?>[] keys) {
+            if (columns.length == 0) {
+                return firstRow;
+            }
+            Object[] key = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                Object value = facts.get(keys[columns[i]], null);
+                if (value == null) {
+                    return -1;
+                }
+                key[i] = value;
+            }
+            Integer row = rows.get(keyOf(key));
+            return row == null ? -1 : row;
+        }
+
+        private static Object keyOf(Object[] values) {
+            return values.length == 1 ? values[0] : Arrays.asList(values);
+        }
+    }
+}
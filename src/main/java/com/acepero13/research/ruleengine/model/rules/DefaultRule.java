@@ -5,20 +5,40 @@ import com.acepero13.research.ruleengine.api.Condition;
 import com.acepero13.research.ruleengine.api.Facts;
 
 import java.util.List;
+import java.util.Optional;
 
-final class DefaultRule extends BasicRule {
+final class DefaultRule extends BasicRule implements PatternRule {
+    /**
+     * Condition of rules built with neither patterns nor a condition, which never fire.
+     */
+    private static final Condition NEVER = facts -> false;
+
+    private final List<FactPattern> patterns;
     private final Condition condition;
     private final List<Action> actions;
+    private final boolean reorderable;
 
     public DefaultRule(String name, String description, int priority, Condition condition, List<Action> actions) {
+        this(name, description, priority, false, List.of(), condition, actions);
+    }
+
+    public DefaultRule(String name, String description, int priority, boolean reorderable, List<FactPattern> patterns,
+                       Condition condition, List<Action> actions) {
         super(name, description, priority);
-        this.condition = condition;
+        this.patterns = List.copyOf(patterns);
+        this.condition = condition == null && patterns.isEmpty() ? NEVER : condition;
         this.actions = actions;
+        this.reorderable = reorderable;
     }
 
     @Override
     public boolean evaluates(Facts facts) {
-        return condition.evaluate(facts);
+        for (FactPattern pattern : patterns) {
+            if (!pattern.matches(facts)) {
+                return false;
+            }
+        }
+        return condition == null || condition.evaluate(facts);
     }
 
     @Override
@@ -28,5 +48,18 @@ final class DefaultRule extends BasicRule {
         }
     }
 
+    @Override
+    public boolean reorderable() {
+        return reorderable;
+    }
 
+    @Override
+    public List<FactPattern> patterns() {
+        return patterns;
+    }
+
+    @Override
+    public Optional<Condition> condition() {
+        return Optional.ofNullable(condition);
+    }
 }
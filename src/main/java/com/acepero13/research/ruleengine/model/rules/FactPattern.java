@@ -0,0 +1,128 @@
+package com.acepero13.research.ruleengine.model.rules;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.FactKey;
+import lombok.EqualsAndHashCode;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A test on the value of a single named fact. Unlike an opaque {@link com.acepero13.research.ruleengine.api.Condition},
+ * a pattern declares which fact it reads, so engines can index it and only re-test it when that fact changes. The fact
+ * is resolved to a {@link FactKey} when the pattern is created.
+ * <p>
+ * Two patterns are equal when they test the same fact, with the same type and the same predicate instance, except
+ * for equality and numeric patterns, which are equal when they expect the same value or condition. Equality patterns
+ * ({@link #equalTo}) also expose the value they expect, which lets {@link DecisionTable} index them, and numeric
+ * patterns expose their {@link NumericCondition}, which the Rete engine indexes by interval.
+ */
+@EqualsAndHashCode
+public final class FactPattern {
+    private static final Predicate<Object> ANY_VALUE = v -> true;
+
+    private final FactKey<?> key;
+    private final Predicate<Object> test;
+    private final Object expected;
+
+    private FactPattern(FactKey<?> key, Predicate<Object> test, Object expected) {
+        this.key = Objects.requireNonNull(key, "Fact key cannot be null");
+        this.test = Objects.requireNonNull(test, "Pattern test cannot be null");
+        this.expected = expected;
+    }
+
+    public static <T> FactPattern of(String factName, Class<T> type, Predicate<? super T> test) {
+        return of(FactKey.of(factName, type), test);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> FactPattern of(FactKey<T> key, Predicate<? super T> test) {
+        return new FactPattern(key, (Predicate<Object>) test, null);
+    }
+
+    public static FactPattern exists(String factName) {
+        return new FactPattern(FactKey.of(factName), ANY_VALUE, null);
+    }
+
+    public static FactPattern of(NumericCondition condition) {
+        return new FactPattern(FactKey.of(condition.factName()), new NumericTest(condition), null);
+    }
+
+    /**
+     * Pattern that holds when the fact is equal to the given value.
+     */
+    public static FactPattern equalTo(String factName, Object value) {
+        Objects.requireNonNull(value, "Expected value cannot be null");
+        return new FactPattern(FactKey.of(factName), new EqualsTest(value), value);
+    }
+
+    public String factName() {
+        return key.name();
+    }
+
+    public FactKey<?> key() {
+        return key;
+    }
+
+    /**
+     * The value an {@link #equalTo} pattern expects, empty for any other pattern.
+     */
+    public Optional<Object> expectedValue() {
+        return Optional.ofNullable(expected);
+    }
+
+    public Optional<NumericCondition> numericCondition() {
+        return test instanceof NumericTest ? Optional.of(((NumericTest) test).condition) : Optional.empty();
+    }
+
+    public boolean matches(Facts facts) {
+        return test(facts.get(key).orElse(null));
+    }
+
+    /**
+     * Tests the given fact value. A missing fact is represented by {@code null} and never matches.
+     */
+    public boolean test(Object value) {
+        return key.type().isInstance(value) && test.test(value);
+    }
+
+    @Override
+    public String toString() {
+        return "FactPattern{" + key.name() + ": " + key.type().getSimpleName() + "}";
+    }
+
+    /**
+     * Equal expected values make equal patterns, so engines share them.
+     */
+    @EqualsAndHashCode
+    private static final class EqualsTest implements Predicate<Object> {
+        private final Object expected;
+
+        private EqualsTest(Object expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean test(Object value) {
+            return expected.equals(value);
+        }
+    }
+
+    /**
+     * Equal numeric conditions make equal patterns, so engines share them.
+     */
+    @EqualsAndHashCode
+    private static final class NumericTest implements Predicate<Object> {
+        private final NumericCondition condition;
+
+        private NumericTest(NumericCondition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        public boolean test(Object value) {
+            return condition.test(value);
+        }
+    }
+}
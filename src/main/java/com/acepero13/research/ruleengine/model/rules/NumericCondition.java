@@ -0,0 +1,126 @@
+package com.acepero13.research.ruleengine.model.rules;
+
+import com.acepero13.research.ruleengine.api.Condition;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.FactKey;
+import lombok.EqualsAndHashCode;
+
+import java.util.Objects;
+
+/**
+ * Structured threshold test on a numeric fact, such as {@code temperature > 30} or {@code amount between 100 and
+ * 500}: an interval with open or closed ends. Unlike a lambda it declares the fact and the bounds it tests, so
+ * {@link RuleBuilder#when} turns it into a {@link FactPattern} and the Rete engine indexes it by interval.
+ * <p>
+ * Any {@link Number} fact is compared as a {@code double}; missing and non-numeric facts never match. Two conditions
+ * are equal when they test the same fact with the same bounds.
+ */
+@EqualsAndHashCode
+public final class NumericCondition implements Condition {
+    private final String factName;
+    private final double low;
+    private final boolean lowInclusive;
+    private final double high;
+    private final boolean highInclusive;
+    @EqualsAndHashCode.Exclude
+    private final FactKey<Object> key;
+
+    private NumericCondition(String factName, double low, boolean lowInclusive, double high, boolean highInclusive) {
+        if (Double.isNaN(low) || Double.isNaN(high)) {
+            throw new IllegalArgumentException("Bounds cannot be NaN");
+        }
+        this.factName = Objects.requireNonNull(factName, "Fact name cannot be null");
+        this.low = low;
+        this.lowInclusive = lowInclusive && low != Double.NEGATIVE_INFINITY;
+        this.high = high;
+        this.highInclusive = highInclusive && high != Double.POSITIVE_INFINITY;
+        this.key = FactKey.of(factName);
+    }
+
+    public static NumericCondition greaterThan(String factName, double bound) {
+        return new NumericCondition(factName, bound, false, Double.POSITIVE_INFINITY, false);
+    }
+
+    public static NumericCondition atLeast(String factName, double bound) {
+        return new NumericCondition(factName, bound, true, Double.POSITIVE_INFINITY, false);
+    }
+
+    public static NumericCondition lessThan(String factName, double bound) {
+        return new NumericCondition(factName, Double.NEGATIVE_INFINITY, false, bound, false);
+    }
+
+    public static NumericCondition atMost(String factName, double bound) {
+        return new NumericCondition(factName, Double.NEGATIVE_INFINITY, false, bound, true);
+    }
+
+    /**
+     * Both bounds included.
+     */
+    public static NumericCondition between(String factName, double low, double high) {
+        return new NumericCondition(factName, low, true, high, true);
+    }
+
+    public String factName() {
+        return factName;
+    }
+
+    public double low() {
+        return low;
+    }
+
+    public boolean isLowInclusive() {
+        return lowInclusive;
+    }
+
+    public double high() {
+        return high;
+    }
+
+    public boolean isHighInclusive() {
+        return highInclusive;
+    }
+
+    public boolean contains(double value) {
+        return (value > low || (lowInclusive && value == low)) && (value < high || (highInclusive && value == high));
+    }
+
+    /**
+     * A value inside the interval, or NaN when no {@code double} is.
+     */
+    public double anyValue() {
+        double value;
+        if (low == Double.NEGATIVE_INFINITY && high == Double.POSITIVE_INFINITY) {
+            value = 0;
+        } else if (low == Double.NEGATIVE_INFINITY) {
+            value = highInclusive ? high : Math.nextDown(high);
+        } else if (high == Double.POSITIVE_INFINITY) {
+            value = lowInclusive ? low : Math.nextUp(low);
+        } else {
+            value = low / 2 + high / 2;
+        }
+        return contains(value) ? value : Double.NaN;
+    }
+
+    /**
+     * Tests a fact value.
+     */
+    public boolean test(Object value) {
+        return value instanceof Number && contains(((Number) value).doubleValue());
+    }
+
+    @Override
+    public boolean evaluate(Facts facts) {
+        return test(facts.get(key, null));
+    }
+
+    @Override
+    public String toString() {
+        if (low == Double.NEGATIVE_INFINITY) {
+            return factName + (highInclusive ? " <= " : " < ") + high;
+        }
+        if (high == Double.POSITIVE_INFINITY) {
+            return factName + (lowInclusive ? " >= " : " > ") + low;
+        }
+        return factName + " in " + (lowInclusive ? "[" : "(") + low + ", " + high + (highInclusive ? "]" : ")");
+    }
+}
@@ -0,0 +1,17 @@
+package com.acepero13.research.ruleengine.model.rules;
+
+import com.acepero13.research.ruleengine.api.Condition;
+import com.acepero13.research.ruleengine.api.Rule;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A rule whose condition is split into structured {@link FactPattern}s and an optional opaque condition.
+ * {@link #evaluates} holds when every pattern matches and the condition, if any, evaluates to true.
+ */
+public interface PatternRule extends Rule {
+    List<FactPattern> patterns();
+
+    Optional<Condition> condition();
+}
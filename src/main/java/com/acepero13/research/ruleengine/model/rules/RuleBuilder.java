@@ -4,14 +4,18 @@ import com.acepero13.research.ruleengine.core.proxy.RuleProxy;
 import com.acepero13.research.ruleengine.api.Action;
 import com.acepero13.research.ruleengine.api.Condition;
 import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.FactKey;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class RuleBuilder {
     private String name;
     private String description;
     private int priority = BasicRule.DEFAULT_PRIORITY;
+    private boolean reorderable;
+    private final List<FactPattern> patterns = new ArrayList<>();
     private Condition condition;
     private final List<Action> actions = new ArrayList<>();
 
@@ -34,17 +38,57 @@ public class RuleBuilder {
         return this;
     }
 
+    /**
+     * See {@link Rule#reorderable()}.
+     */
+    public RuleBuilder reorderable() {
+        this.reorderable = true;
+        return this;
+    }
+
+    /**
+     * Sets the condition of the rule. A {@link NumericCondition} is added as a pattern instead, so it can be combined
+     * with other patterns and indexed by the engines.
+     */
     public RuleBuilder when(Condition condition) {
+        if (condition instanceof NumericCondition) {
+            return given(FactPattern.of((NumericCondition) condition));
+        }
         this.condition = condition;
         return this;
     }
 
+    public RuleBuilder given(FactPattern pattern) {
+        this.patterns.add(pattern);
+        return this;
+    }
+
+    public RuleBuilder given(String factName) {
+        return given(FactPattern.exists(factName));
+    }
+
+    public <T> RuleBuilder given(String factName, Class<T> type, Predicate<? super T> test) {
+        return given(FactPattern.of(factName, type, test));
+    }
+
+    public <T> RuleBuilder given(FactKey<T> key, Predicate<? super T> test) {
+        return given(FactPattern.of(key, test));
+    }
+
+    public RuleBuilder givenEquals(String factName, Object value) {
+        return given(FactPattern.equalTo(factName, value));
+    }
+
     public RuleBuilder then(Action action) {
         this.actions.add(action);
         return this;
     }
 
+    /**
+     * The rule fires when all its patterns match and its condition holds. A rule with neither never fires, as before
+     * patterns existed.
+     */
     public Rule build() {
-        return new DefaultRule(name, description, priority, condition, actions);
+        return new DefaultRule(name, description, priority, reorderable, patterns, condition, actions);
     }
 }
@@ -0,0 +1,111 @@
+package com.acepero13.research.ruleengine.core;
+
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.agenda.Activation;
+import com.acepero13.research.ruleengine.core.agenda.Agenda;
+import com.acepero13.research.ruleengine.core.agenda.ConflictResolutionStrategy;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgendaTest {
+
+    @Test
+    void salienceOrdersByPriorityThenRuleOrder() {
+        Agenda agenda = new Agenda(ConflictResolutionStrategy.SALIENCE);
+        Activation second = Activation.of(rule("second", 1), 1);
+        Activation first = Activation.of(rule("first", 1), 0);
+        Activation high = Activation.of(rule("high", 5), 2);
+        agenda.activate(second);
+        agenda.activate(first);
+        agenda.activate(high);
+
+        assertEquals(List.of("high", "first", "second"), names(agenda.ordered()));
+        assertEquals(List.of("high", "first", "second"), drain(agenda));
+    }
+
+    @Test
+    void activationsCanBeDeactivatedAnywhereInTheHeap() {
+        Agenda agenda = new Agenda(ConflictResolutionStrategy.SALIENCE);
+        Random random = new Random(42);
+        List<Activation> activations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            activations.add(Activation.of(rule("r" + i, random.nextInt(10)), i));
+        }
+        Set<Activation> expected = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            Activation activation = activations.get(random.nextInt(activations.size()));
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(activation), agenda.activate(activation));
+            } else {
+                assertEquals(expected.remove(activation), agenda.deactivate(activation));
+            }
+        }
+
+        List<Activation> sorted = new ArrayList<>(expected);
+        sorted.sort(ConflictResolutionStrategy.SALIENCE);
+        assertEquals(expected.size(), agenda.size());
+        List<Activation> polled = new ArrayList<>();
+        while (!agenda.isEmpty()) {
+            polled.add(agenda.poll());
+        }
+        assertEquals(sorted, polled);
+        assertTrue(activations.stream().noneMatch(Activation::isActive));
+    }
+
+    @Test
+    void recencyAndSpecificityBreakSalienceTies() {
+        Rule general = rule("general", 0);
+        Rule specific = new RuleBuilder().name("specific").priority(0).given("a").given("b").build();
+
+        Agenda byRecency = new Agenda(ConflictResolutionStrategy.RECENCY);
+        byRecency.activate(Activation.of(specific, 1));
+        byRecency.activate(Activation.of(general, 0));
+        assertEquals("general", byRecency.peek().rule().name());
+
+        Agenda bySpecificity = new Agenda(ConflictResolutionStrategy.SPECIFICITY);
+        bySpecificity.activate(Activation.of(general, 0));
+        bySpecificity.activate(Activation.of(specific, 1));
+        assertEquals("specific", bySpecificity.peek().rule().name());
+    }
+
+    @Test
+    void lexAndMeaCompareTheTimetagsOfTheMatchedFacts() {
+        Rule onAThenB = new RuleBuilder().name("a, b").given("a").given("b").build();
+        Rule onC = new RuleBuilder().name("c").given("c").build();
+
+        for (ConflictResolutionStrategy strategy : List.of(ConflictResolutionStrategy.LEX, ConflictResolutionStrategy.MEA)) {
+            Agenda agenda = new Agenda(strategy);
+            agenda.factChanged("a");
+            agenda.factChanged("c");
+            agenda.factChanged("b");
+            agenda.activate(Activation.of(onC, 0));
+            agenda.activate(Activation.of(onAThenB, 1));
+            // LEX: b is the most recent fact. MEA: the first pattern of "a, b" is older than c
+            String expected = strategy == ConflictResolutionStrategy.LEX ? "a, b" : "c";
+            assertEquals(expected, agenda.poll().rule().name(), strategy.toString());
+        }
+    }
+
+    private static Rule rule(String name, int priority) {
+        return new RuleBuilder().name(name).priority(priority).build();
+    }
+
+    private static List<String> names(List<Activation> activations) {
+        List<String> names = new ArrayList<>();
+        activations.forEach(a -> names.add(a.rule().name()));
+        return names;
+    }
+
+    private static List<String> drain(Agenda agenda) {
+        List<String> names = new ArrayList<>();
+        Activation next;
+        while ((next = agenda.poll()) != null) {
+            names.add(next.rule().name());
+        }
+        return names;
+    }
+}
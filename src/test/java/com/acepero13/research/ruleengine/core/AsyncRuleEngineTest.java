@@ -0,0 +1,171 @@
+package com.acepero13.research.ruleengine.core;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.api.RulesEventsListener;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.core.engines.ForwardChainEngine;
+import com.acepero13.research.ruleengine.core.engines.async.AsyncRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.batch.FireOutcome;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncRuleEngineTest {
+
+    @Test
+    void completesWithTheFiredFacts() throws Exception {
+        Facts facts = new InMemoryFacts();
+        facts.put("temperature", 30);
+
+        Facts result = new AsyncRuleEngine(ForwardChainEngine::new, Rules.of(coolDown()))
+                .fireAsync(facts)
+                .get(5, TimeUnit.SECONDS);
+
+        assertSame(facts, result);
+        assertEquals(25, result.get("temperature", Integer.class, -1));
+    }
+
+    @Test
+    void outcomeSummarizesTheSession() throws Exception {
+        Rule failing = new RuleBuilder()
+                .name("failing")
+                .priority(1)
+                .when(facts -> true)
+                .then(facts -> {
+                    throw new IllegalStateException("Failure");
+                })
+                .build();
+        Facts facts = new InMemoryFacts();
+        facts.put("temperature", 26);
+
+        FireOutcome outcome = new AsyncRuleEngine(
+                rules -> new DefaultRuleEngine(rules, EngineParameters.builder().build()), Rules.of(coolDown(), failing))
+                .fireWithOutcome(facts)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(coolDown()), outcome.getFiredRules());
+        assertEquals(List.of(failing), outcome.getFailedExecutions());
+    }
+
+    @Test
+    void manySessionsRunConcurrently() {
+        AsyncRuleEngine engine = new AsyncRuleEngine(ForwardChainEngine::new, Rules.of(coolDown()));
+        List<CompletableFuture<Facts>> sessions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Facts facts = new InMemoryFacts();
+            facts.put("temperature", 30);
+            sessions.add(engine.fireAsync(facts));
+        }
+
+        CompletableFuture.allOf(sessions.toArray(new CompletableFuture<?>[0])).join();
+
+        sessions.forEach(s -> assertEquals(25, s.join().get("temperature", Integer.class, -1)));
+    }
+
+    @Test
+    void listenersArePropagatedToSessions() throws Exception {
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        AsyncRuleEngine engine = new AsyncRuleEngine(ForwardChainEngine::new, Rules.of(coolDown()));
+        engine.register(new RulesEventsListener() {
+            @Override
+            public void beforeFire(Rule rule) {
+                fired.add(rule.name());
+            }
+
+            @Override
+            public void afterFire(Rule rule) {
+            }
+
+            @Override
+            public void evaluationFailed(Rule rule, Facts facts) {
+            }
+
+            @Override
+            public void executionFailed(Rule rule, Facts facts) {
+            }
+        });
+        Facts facts = new InMemoryFacts();
+        facts.put("temperature", 27);
+
+        engine.fireAsync(facts).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("air conditioning", "air conditioning"), fired);
+    }
+
+    @Test
+    void cancellationInterruptsTheSessionAndStopsFiring() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicInteger laterRules = new AtomicInteger();
+        Rule blocking = new RuleBuilder()
+                .name("blocking")
+                .priority(2)
+                .when(facts -> true)
+                .then(facts -> {
+                    started.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                })
+                .build();
+        Rule later = new RuleBuilder()
+                .name("later")
+                .priority(1)
+                .when(facts -> true)
+                .then(facts -> laterRules.incrementAndGet())
+                .build();
+        AsyncRuleEngine engine = new AsyncRuleEngine(
+                rules -> new DefaultRuleEngine(rules, EngineParameters.builder().build()), Rules.of(blocking, later));
+
+        CompletableFuture<Facts> session = engine.fireAsync(new InMemoryFacts());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(session.cancel(true));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertThrows(CancellationException.class, session::join);
+        Thread.sleep(50);
+        assertEquals(0, laterRules.get());
+    }
+
+    @Test
+    void runsOnTheConfiguredExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-session"));
+        try {
+            List<String> threads = Collections.synchronizedList(new ArrayList<>());
+            Rule recordThread = new RuleBuilder()
+                    .name("record thread")
+                    .when(facts -> true)
+                    .then(facts -> threads.add(Thread.currentThread().getName()))
+                    .build();
+
+            new AsyncRuleEngine(DefaultRuleEngine::new, Rules.of(recordThread), executor)
+                    .fireAsync(new InMemoryFacts())
+                    .get(5, TimeUnit.SECONDS);
+
+            assertEquals(List.of("custom-session"), threads);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Rule coolDown() {
+        return new RuleBuilder()
+                .name("air conditioning")
+                .when(facts -> facts.get("temperature", Integer.class, -1000) > 25)
+                .then(facts -> facts.updatesIfExists("temperature", Integer.class, t -> t - 1))
+                .build();
+    }
+}
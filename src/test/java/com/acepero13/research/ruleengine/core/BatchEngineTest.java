@@ -0,0 +1,156 @@
+package com.acepero13.research.ruleengine.core;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.core.engines.ForwardChainEngine;
+import com.acepero13.research.ruleengine.core.engines.batch.BatchEngine;
+import com.acepero13.research.ruleengine.core.engines.batch.FireOutcome;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchEngineTest {
+
+    @Test
+    void outcomesFollowTheOrderOfTheFacts() {
+        List<Facts> records = records(1000);
+
+        List<FireOutcome> outcomes = new BatchEngine(DefaultRuleEngine::new).fireAll(fizzBuzz(), records);
+
+        assertEquals(records.size(), outcomes.size());
+        for (int i = 0; i < records.size(); i++) {
+            FireOutcome outcome = outcomes.get(i);
+            int number = i + 1;
+            assertSame(records.get(i), outcome.getFacts());
+            assertEquals(expectedSaying(number), outcome.getFacts().get("said", String.class, ""));
+            assertEquals(1, outcome.getFiredRules().size());
+            assertTrue(outcome.getFailedExecutions().isEmpty());
+        }
+    }
+
+    @Test
+    void enginesAreReusedPerWorker() {
+        AtomicInteger engines = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BatchEngine batch = new BatchEngine(rules -> {
+                engines.incrementAndGet();
+                return new DefaultRuleEngine(rules);
+            }, pool);
+
+            batch.fireAll(fizzBuzz(), records(500));
+            batch.fireAll(fizzBuzz(), records(500));
+
+            assertTrue(engines.get() <= 3, "Engines created: " + engines.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void failuresArePartOfTheOutcome() {
+        Rule failsOnCondition = new RuleBuilder()
+                .name("fails on condition")
+                .priority(2)
+                .when(facts -> {
+                    throw new RuntimeException("Failure");
+                })
+                .build();
+        Rule failsOnAction = new RuleBuilder()
+                .name("fails on action")
+                .priority(1)
+                .when(facts -> true)
+                .then(facts -> {
+                    throw new RuntimeException("Failure");
+                })
+                .build();
+        BatchEngine batch = new BatchEngine(rules -> new DefaultRuleEngine(rules, EngineParameters.builder().build()));
+
+        List<FireOutcome> outcomes = batch.fireAll(Rules.of(failsOnCondition, failsOnAction), records(10));
+
+        for (FireOutcome outcome : outcomes) {
+            assertEquals(List.of(failsOnCondition), outcome.getFailedEvaluations());
+            assertEquals(List.of(failsOnAction), outcome.getFailedExecutions());
+            assertTrue(outcome.getFiredRules().isEmpty());
+        }
+    }
+
+    @Test
+    void streamOfFactsWithInference() {
+        Rule coolDown = new RuleBuilder()
+                .name("air conditioning")
+                .when(facts -> facts.get("temperature", Integer.class, -1000) > 25)
+                .then(facts -> facts.updatesIfExists("temperature", Integer.class, t -> t - 1))
+                .build();
+        BatchEngine batch = new BatchEngine(ForwardChainEngine::new);
+
+        List<FireOutcome> outcomes = batch.fireAll(Rules.of(coolDown), IntStream.range(0, 100).mapToObj(i -> {
+            Facts facts = new InMemoryFacts();
+            facts.put("temperature", 30 + i % 3);
+            return facts;
+        })).collect(Collectors.toList());
+
+        assertEquals(100, outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            assertEquals(25, outcomes.get(i).getFacts().get("temperature", Integer.class, -1));
+            assertEquals(5 + i % 3, outcomes.get(i).getFiredRules().size());
+        }
+    }
+
+    private static List<Facts> records(int count) {
+        List<Facts> records = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Facts facts = new InMemoryFacts();
+            facts.put("number", i);
+            records.add(facts);
+        }
+        return records;
+    }
+
+    private static String expectedSaying(int number) {
+        if (number % 35 == 0) {
+            return "fizzbuzz";
+        }
+        if (number % 7 == 0) {
+            return "fizz";
+        }
+        if (number % 5 == 0) {
+            return "buzz";
+        }
+        return String.valueOf(number);
+    }
+
+    private static Rules fizzBuzz() {
+        Rule fizzBuzz = rule("fizzbuzz", 3, n -> n % 35 == 0);
+        Rule fizz = rule("fizz", 2, n -> n % 7 == 0);
+        Rule buzz = rule("buzz", 2, n -> n % 5 == 0);
+        Rule number = new RuleBuilder()
+                .name("number")
+                .priority(1)
+                .when(facts -> true)
+                .then(facts -> facts.put("said", String.valueOf(facts.get("number", Integer.class, -1))))
+                .build();
+        return Rules.of(fizzBuzz, fizz, buzz, number);
+    }
+
+    private static Rule rule(String saying, int priority, java.util.function.IntPredicate test) {
+        return new RuleBuilder()
+                .name(saying)
+                .priority(priority)
+                .when(facts -> test.test(facts.get("number", Integer.class, -1)))
+                .then(facts -> facts.put("said", saying))
+                .build();
+    }
+}
@@ -7,14 +7,21 @@ import com.acepero13.research.ruleengine.api.RulesEventsListener;
 import com.acepero13.research.ruleengine.api.Facts;
 import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
 import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.model.CompiledRules;
 import com.acepero13.research.ruleengine.model.FactsOperation;
 import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
 import com.acepero13.research.ruleengine.model.Rules;
 import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -225,6 +232,95 @@ class DefaultRuleEngineTest implements RulesEventsListener {
         assertRuleNotFired();
     }
 
+    @Test
+    void adaptiveOrderingTriesRulesThatMatchFirstWithinTheirPriority() {
+        Rule guard = ruleMatching("guard", 10, false, false);
+        Rule rare = ruleMatching("rare", 5, false, false);
+        Rule common = ruleMatching("common", 5, true, false);
+        Rule fallback = ruleMatching("fallback", 1, true, false);
+        DefaultRuleEngine engine = new DefaultRuleEngine(Rules.of(guard, rare, common, fallback), adaptiveParameters());
+
+        for (int i = 0; i < 640; i++) {
+            engine.fire(facts);
+        }
+
+        assertEquals(List.of(guard, common, rare, fallback), engine.evaluationOrder());
+    }
+
+    @Test
+    void reorderableRulesNeverMoveAcrossPriorities() {
+        Rule rare = ruleMatching("rare", 10, false, true);
+        Rule common = ruleMatching("common", 5, true, true);
+        Rule rareTwin = ruleMatching("rare twin", 5, false, true);
+        Rule commonTwin = ruleMatching("common twin", 5, true, true);
+        DefaultRuleEngine engine = new DefaultRuleEngine(Rules.of(rare, rareTwin, common, commonTwin),
+                adaptiveParameters());
+
+        for (int i = 0; i < 640; i++) {
+            engine.fire(facts);
+        }
+
+        assertEquals(rare, engine.evaluationOrder().get(0));
+        assertEquals(rareTwin, engine.evaluationOrder().get(3));
+    }
+
+    @Test
+    void adaptiveOrderingCanBeSharedBetweenThreads() throws Exception {
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        List<Rule> rules = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String name = "rule" + i;
+            boolean matches = i == 19;
+            rules.add(new RuleBuilder().name(name).priority(1)
+                                       .when(f -> matches)
+                                       .then(f -> fired.add(name))
+                                       .build());
+        }
+        DefaultRuleEngine engine = new DefaultRuleEngine(new Rules(rules.toArray(new Rule[0])), adaptiveParameters());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> fires = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                fires.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        engine.fire(new IndexedFacts());
+                    }
+                }));
+            }
+            for (Future<?> fire : fires) {
+                fire.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2000, fired.size());
+        assertTrue(fired.stream().allMatch("rule19"::equals));
+        assertEquals(Set.copyOf(rules), Set.copyOf(engine.evaluationOrder()));
+    }
+
+    @Test
+    void publishedRulesApplyFromTheNextFire() {
+        List<String> fired = new ArrayList<>();
+        Rule second = ruleRecording("second", 1, fired);
+        DefaultRuleEngine engine = new DefaultRuleEngine(Rules.of(ruleRecording("first", 2, fired)),
+                EngineParameters.builder().build());
+        // Published while firing: the running fire keeps its rules
+        Rule publisher = new RuleBuilder()
+                .name("publisher")
+                .priority(3)
+                .when(facts -> true)
+                .then(facts -> engine.publish(CompiledRules.of(second)))
+                .build();
+        engine.publish(CompiledRules.of(publisher, ruleRecording("first", 2, fired)));
+
+        engine.fire(facts);
+        assertEquals(List.of("first"), fired);
+
+        engine.fire(facts);
+        assertEquals(List.of("first", "second"), fired);
+    }
+
     private void assertRuleNotFired() {
         assertTrue(before.isEmpty());
         assertTrue(after.isEmpty());
@@ -264,6 +360,35 @@ class DefaultRuleEngineTest implements RulesEventsListener {
                 .build();
     }
 
+    private static Rule ruleRecording(String name, int prio, List<String> fired) {
+        return new RuleBuilder()
+                .name(name)
+                .priority(prio)
+                .when(facts -> true)
+                .then(facts -> fired.add(name))
+                .build();
+    }
+
+    private static EngineParameters adaptiveParameters() {
+        return EngineParameters.builder()
+                .skipOnFirstAppliedRule(true)
+                .adaptiveOrdering(true)
+                .build();
+    }
+
+    private static Rule ruleMatching(String name, int prio, boolean matches, boolean reorderable) {
+        RuleBuilder builder = new RuleBuilder()
+                .name(name)
+                .priority(prio)
+                .when(facts -> matches)
+                .then(facts -> {
+                });
+        if (reorderable) {
+            builder.reorderable();
+        }
+        return builder.build();
+    }
+
     private static Rule createAlwaysFire(int prio) {
         return new RuleBuilder()
                 .name("alwaysFire")
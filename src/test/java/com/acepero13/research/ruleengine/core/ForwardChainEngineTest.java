@@ -19,8 +19,10 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ForwardChainEngineTest implements RulesEventsListener {
 
@@ -186,6 +188,325 @@ class ForwardChainEngineTest implements RulesEventsListener {
 
     }
 
+    @Test
+    void parallelEvaluationKeepsPriorityOrder() {
+        List<String> fired = new ArrayList<>();
+        Rules rules = new Rules();
+        for (int i = 0; i < 200; i++) {
+            String name = "rule " + i;
+            rules.register(new RuleBuilder()
+                    .name(name)
+                    .priority(i % 7)
+                    .when(facts -> facts.exists("go"))
+                    .then(facts -> fired.add(name))
+                    .build());
+        }
+        List<String> expected = new ArrayList<>();
+        rules.forEach(r -> expected.add(r.name()));
+        Facts facts = new InMemoryFacts();
+        facts.put("go", true);
+
+        new ForwardChainEngine(rules, parallelParameters(false)).fire(facts);
+
+        assertEquals(expected, fired);
+    }
+
+    @Test
+    void parallelEvaluationReportsFailuresOnTheFiringThread() {
+        var failing = new RuleBuilder()
+                .name("fails")
+                .when(facts -> {
+                    throw new RuntimeException("Failure");
+                })
+                .build();
+        List<Thread> reportedOn = new ArrayList<>();
+        RuleEngine engine = new ForwardChainEngine(Rules.of(failing), parallelParameters(false));
+        engine.register(new RulesEventsListener() {
+            @Override
+            public void beforeFire(com.acepero13.research.ruleengine.api.Rule rule) {
+            }
+
+            @Override
+            public void afterFire(com.acepero13.research.ruleengine.api.Rule rule) {
+            }
+
+            @Override
+            public void evaluationFailed(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+                reportedOn.add(Thread.currentThread());
+            }
+
+            @Override
+            public void executionFailed(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+            }
+        });
+
+        engine.fire(new InMemoryFacts());
+
+        assertEquals(List.of(Thread.currentThread()), reportedOn);
+    }
+
+    @Test
+    void parallelEvaluationDoesNotEvaluateVetoedRules() {
+        AtomicInteger evaluations = new AtomicInteger();
+        var vetoed = new RuleBuilder()
+                .name("vetoed")
+                .when(facts -> {
+                    evaluations.incrementAndGet();
+                    throw new RuntimeException("Failure");
+                })
+                .build();
+        List<String> failures = new ArrayList<>();
+        RuleEngine engine = new ForwardChainEngine(Rules.of(vetoed), parallelParameters(true));
+        engine.register(new RulesEventsListener() {
+            @Override
+            public boolean shouldFire(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+                return false;
+            }
+
+            @Override
+            public void beforeFire(com.acepero13.research.ruleengine.api.Rule rule) {
+            }
+
+            @Override
+            public void afterFire(com.acepero13.research.ruleengine.api.Rule rule) {
+            }
+
+            @Override
+            public void evaluationFailed(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+                failures.add(rule.name());
+            }
+
+            @Override
+            public void executionFailed(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+            }
+        });
+
+        engine.fire(new InMemoryFacts());
+
+        assertEquals(0, evaluations.get());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    void parallelIncrementalInference() {
+        AtomicInteger evaluations = new AtomicInteger();
+        var coolDown = new RuleBuilder()
+                .name("cool down")
+                .when(facts -> {
+                    evaluations.incrementAndGet();
+                    return facts.get("temperature", Integer.class, -1000) > 25;
+                })
+                .then(facts -> facts.updatesIfExists("temperature", Integer.class, t -> t - 1))
+                .build();
+        var unrelated = new RuleBuilder()
+                .name("unrelated")
+                .when(facts -> facts.exists("humidity"))
+                .build();
+        Facts facts = new InMemoryFacts();
+        facts.put("temperature", 30);
+
+        new ForwardChainEngine(Rules.of(coolDown, unrelated), parallelParameters(true)).fire(facts);
+
+        assertEquals(25, facts.get("temperature", Integer.class, -1));
+        assertEquals(6, evaluations.get());
+    }
+
+    @Test
+    void parallelEvaluationUsesConfiguredExecutor() {
+        AtomicInteger tasks = new AtomicInteger();
+        var params = ForwardChainEngine.ForwardChainEngineParameters.builder()
+                .considerNewFacts(true)
+                .considerUpdatesFacts(true)
+                .parallelEvaluation(true)
+                .evaluationExecutor(task -> {
+                    tasks.incrementAndGet();
+                    task.run();
+                })
+                .build();
+        Facts facts = new InMemoryFacts();
+        facts.put("A", "A");
+
+        var ifAThenB = new RuleBuilder()
+                .name("A -> B")
+                .when(f -> f.exists("A"))
+                .then(f -> f.put("B", "B"))
+                .build();
+
+        new ForwardChainEngine(Rules.of(ifAThenB), params).fire(facts);
+
+        assertEquals("B", facts.get("B", String.class, ""));
+
+        assertTrue(tasks.get() > 0);
+    }
+
+    @Test
+    void listenersCanVetoRules() {
+        var ifAThenB = new RuleBuilder()
+                .name("A -> B")
+                .when(facts -> facts.exists("A"))
+                .then(facts -> facts.put("B", "B"))
+                .build();
+        Facts facts = new InMemoryFacts();
+        facts.put("A", "A");
+        RuleEngine engine = new ForwardChainEngine(Rules.of(ifAThenB));
+        engine.register(new RulesEventsListener() {
+            @Override
+            public void beforeFire(com.acepero13.research.ruleengine.api.Rule rule) {
+            }
+
+            @Override
+            public void afterFire(com.acepero13.research.ruleengine.api.Rule rule) {
+            }
+
+            @Override
+            public boolean shouldFire(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+                return false;
+            }
+
+            @Override
+            public void evaluationFailed(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+            }
+
+            @Override
+            public void executionFailed(com.acepero13.research.ruleengine.api.Rule rule, Facts facts) {
+            }
+        });
+
+        engine.fire(facts);
+
+        assertTrue(facts.get("B").isEmpty());
+    }
+
+    @Test
+    void incrementalInference() {
+        var IfAThenB = new RuleBuilder()
+                .name("A -> B")
+                .when(facts -> facts.get("A").isPresent())
+                .then(facts -> facts.put("B", "B"))
+                .build();
+
+        var IfBThenC = new RuleBuilder()
+                .name("B -> C")
+                .when(facts -> facts.get("B").isPresent())
+                .then(facts -> facts.put("C", "C"))
+                .build();
+
+        Facts facts = new InMemoryFacts();
+        facts.put("A", "A");
+
+        RuleEngine engine = new ForwardChainEngine(new Rules(IfBThenC, IfAThenB), incrementalParameters());
+        engine.fire(facts);
+
+        assertEquals("C", facts.get("C", String.class, ""));
+    }
+
+    @Test
+    void incrementalModeOnlyReevaluatesRulesReadingChangedFacts() {
+        AtomicInteger temperatureEvaluations = new AtomicInteger();
+        AtomicInteger unrelatedEvaluations = new AtomicInteger();
+        var coolDown = new RuleBuilder()
+                .name("cool down")
+                .when(facts -> {
+                    temperatureEvaluations.incrementAndGet();
+                    return facts.get("temperature", Integer.class, -1000) > 25;
+                })
+                .then(facts -> facts.updatesIfExists("temperature", Integer.class, t -> t - 1))
+                .build();
+        var unrelated = new RuleBuilder()
+                .name("unrelated")
+                .when(facts -> {
+                    unrelatedEvaluations.incrementAndGet();
+                    return facts.exists("humidity");
+                })
+                .then(facts -> {
+                })
+                .build();
+
+        Facts facts = new InMemoryFacts();
+        facts.put("temperature", 30);
+
+        new ForwardChainEngine(Rules.of(coolDown, unrelated), incrementalParameters()).fire(facts);
+
+        assertEquals(25, facts.get("temperature", Integer.class, -1));
+        assertEquals(6, temperatureEvaluations.get());
+        assertEquals(1, unrelatedEvaluations.get());
+    }
+
+    @Test
+    void incrementalModeSeesRemovedFacts() {
+        var removeA = new RuleBuilder()
+                .name("remove A")
+                .priority(2)
+                .when(facts -> facts.exists("A"))
+                .then(facts -> {
+                    facts.remove("A");
+                    facts.put("A removed", true);
+                })
+                .build();
+        var missingA = new RuleBuilder()
+                .name("A is missing")
+                .priority(1)
+                .when(facts -> !facts.exists("A"))
+                .then(facts -> facts.put("B", "B"))
+                .build();
+
+        Facts facts = new InMemoryFacts();
+        facts.put("A", "A");
+
+        new ForwardChainEngine(Rules.of(removeA, missingA), incrementalParameters()).fire(facts);
+
+        assertEquals("B", facts.get("B", String.class, ""));
+    }
+
+    @Test
+    void memoizedConditionsAreReusedUntilTheirFactsChange() {
+        AtomicInteger priceLookups = new AtomicInteger();
+        var price = new RuleBuilder()
+                .name("price")
+                .priority(2)
+                .when(facts -> {
+                    priceLookups.incrementAndGet();
+                    return facts.exists("product") && !facts.exists("price");
+                })
+                .then(facts -> facts.put("price", 10))
+                .build();
+        var count = new RuleBuilder()
+                .name("count")
+                .priority(1)
+                .when(facts -> facts.get("counter", Integer.class, 0) < 5)
+                .then(facts -> facts.updatesIfExists("counter", Integer.class, c -> c + 1))
+                .build();
+        Facts facts = new InMemoryFacts();
+        facts.put("product", "book");
+        facts.put("counter", 0);
+
+        new ForwardChainEngine(Rules.of(price, count), ForwardChainEngine.ForwardChainEngineParameters.builder()
+                .considerNewFacts(true)
+                .considerUpdatesFacts(true)
+                .memoizeConditions(true)
+                .build()).fire(facts);
+
+        assertEquals(5, facts.get("counter", Integer.class, -1));
+        assertEquals(10, facts.get("price", Integer.class, -1));
+        // Evaluated when the fire starts and once more after setting the price
+        assertEquals(2, priceLookups.get());
+    }
+
+    private static ForwardChainEngine.ForwardChainEngineParameters incrementalParameters() {
+        return ForwardChainEngine.ForwardChainEngineParameters.builder()
+                .considerUpdatesFacts(true)
+                .incremental(true)
+                .build();
+    }
+
+    private static ForwardChainEngine.ForwardChainEngineParameters parallelParameters(boolean incremental) {
+        return ForwardChainEngine.ForwardChainEngineParameters.builder()
+                .considerUpdatesFacts(true)
+                .incremental(incremental)
+                .parallelEvaluation(true)
+                .build();
+    }
+
     @Override
     public void beforeFire(com.acepero13.research.ruleengine.api.Rule rule) {
 
@@ -0,0 +1,128 @@
+package com.acepero13.research.ruleengine.core;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.core.engines.ForwardChainEngine;
+import com.acepero13.research.ruleengine.core.metrics.ConcurrentHistogram;
+import com.acepero13.research.ruleengine.core.metrics.HistogramSnapshot;
+import com.acepero13.research.ruleengine.core.metrics.MetricsTracer;
+import com.acepero13.research.ruleengine.core.metrics.RuleMetricsSnapshot;
+import com.acepero13.research.ruleengine.core.tracing.ExecutionTracer;
+import com.acepero13.research.ruleengine.core.tracing.RingBufferTracer;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTracerTest {
+
+    private final MetricsTracer metrics = new MetricsTracer();
+
+    @Test
+    void countsEvaluationsActivationsAndFailures() {
+        var even = new RuleBuilder()
+                .name("even")
+                .priority(2)
+                .when(facts -> facts.get("number", Integer.class, 1) % 2 == 0)
+                .then(facts -> facts.put("said", "even"))
+                .build();
+        var broken = new RuleBuilder()
+                .name("broken")
+                .priority(1)
+                .when(facts -> true)
+                .then(facts -> {
+                    throw new IllegalStateException("Broken action");
+                })
+                .build();
+        var engine = new DefaultRuleEngine(new Rules(even, broken), EngineParameters.builder()
+                .tracer(metrics)
+                .build());
+
+        for (int i = 1; i <= 4; i++) {
+            Facts facts = new InMemoryFacts();
+            facts.put("number", i);
+            engine.fire(facts);
+        }
+
+        RuleMetricsSnapshot evenMetrics = metrics.snapshot("even").orElseThrow();
+        assertEquals(4, evenMetrics.getEvaluations());
+        assertEquals(2, evenMetrics.getActivations());
+        assertEquals(2, evenMetrics.getExecutions());
+        assertEquals(4, evenMetrics.getEvaluationLatency().getCount());
+        RuleMetricsSnapshot brokenMetrics = metrics.snapshot("broken").orElseThrow();
+        assertEquals(4, brokenMetrics.getExecutions());
+        assertEquals(4, brokenMetrics.getExecutionFailures());
+        assertEquals(4, metrics.getFireCount());
+        assertEquals(4, metrics.getCycleCount());
+    }
+
+    @Test
+    void countsForwardChainCycles() {
+        var rule = new RuleBuilder()
+                .name("A -> B")
+                .when(facts -> facts.exists("A") && !facts.exists("B"))
+                .then(facts -> facts.put("B", "B"))
+                .build();
+        RingBufferTracer trace = new RingBufferTracer();
+        var engine = new ForwardChainEngine(new Rules(rule), ForwardChainEngine.ForwardChainEngineParameters.builder()
+                .considerNewFacts(true)
+                .tracer(ExecutionTracer.of(metrics, trace))
+                .build());
+        Facts facts = new InMemoryFacts();
+        facts.put("A", "A");
+
+        engine.fire(facts);
+
+        assertEquals(1, metrics.getFireCount());
+        assertEquals(2, metrics.getCycleCount());
+        assertEquals(2, metrics.getCyclesPerFire().getMax());
+        assertEquals(2, metrics.snapshot("A -> B").orElseThrow().getEvaluations());
+        assertEquals(5, trace.snapshot().size());
+    }
+
+    @Test
+    void histogramPercentilesAreWithinTheBucketPrecision() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000, snapshot.getMax());
+        assertEquals(5_000.5, snapshot.getMean(), 0.001);
+        assertWithin(5_000, snapshot.getP50());
+        assertWithin(9_900, snapshot.getP99());
+        assertEquals(1, snapshot.percentile(0));
+    }
+
+    @Test
+    void isPublishedThroughJmx() throws Exception {
+        var rule = new RuleBuilder().name("jmx").when(facts -> true).build();
+        new DefaultRuleEngine(new Rules(rule), EngineParameters.builder().tracer(metrics).build())
+                .fire(new InMemoryFacts());
+
+        ObjectName name = metrics.registerMBean("metrics-test");
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(name, "FireCount"));
+            TabularData rules = (TabularData) server.getAttribute(name, "Rules");
+            CompositeData jmx = (CompositeData) rules.get(new Object[]{"jmx"}).get("value");
+            assertEquals(1L, jmx.get("activations"));
+        } finally {
+            metrics.unregisterMBean("metrics-test");
+        }
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8, "Expected about " + expected + " but was " + actual);
+    }
+}
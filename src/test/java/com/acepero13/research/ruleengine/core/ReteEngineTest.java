@@ -0,0 +1,359 @@
+package com.acepero13.research.ruleengine.core;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.api.RuleEngine;
+import com.acepero13.research.ruleengine.api.RulesEventsListener;
+import com.acepero13.research.ruleengine.core.agenda.ConflictResolutionStrategy;
+import com.acepero13.research.ruleengine.core.engines.rete.ReteEngine;
+import com.acepero13.research.ruleengine.core.engines.rete.ReteEngineParameters;
+import com.acepero13.research.ruleengine.model.CompiledRules;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.NumericCondition;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReteEngineTest implements RulesEventsListener {
+    private final List<String> fired = new ArrayList<>();
+    private final List<Rule> executionFailures = new ArrayList<>();
+    private final List<Rule> evaluationFailures = new ArrayList<>();
+
+    @Test
+    void inferenceWithOpaqueConditions() {
+        var ifAThenB = new RuleBuilder()
+                .name("A -> B")
+                .when(facts -> facts.get("A").isPresent())
+                .then(facts -> facts.put("B", "B"))
+                .build();
+
+        var ifBThenC = new RuleBuilder()
+                .name("B -> C")
+                .when(facts -> facts.get("B").isPresent())
+                .then(facts -> facts.put("C", "C"))
+                .build();
+
+        Facts facts = new IndexedFacts();
+        facts.put("A", "A");
+
+        RuleEngine engine = new ReteEngine(new Rules(ifBThenC, ifAThenB));
+        engine.fire(facts);
+
+        assertEquals("C", facts.get("C", String.class, ""));
+    }
+
+    @Test
+    void inferenceWithPatterns() {
+        var ifAThenB = new RuleBuilder()
+                .name("A -> B")
+                .given("A")
+                .then(facts -> facts.put("B", "B"))
+                .build();
+
+        var ifBAndAThenC = new RuleBuilder()
+                .name("A and B -> C")
+                .given("A")
+                .given("B", String.class, "B"::equals)
+                .then(facts -> facts.put("C", "C"))
+                .build();
+
+        Facts facts = new IndexedFacts();
+        facts.put("A", "A");
+
+        RuleEngine engine = new ReteEngine(new Rules(ifBAndAThenC, ifAThenB));
+        engine.register(this);
+        engine.fire(facts);
+
+        assertEquals("C", facts.get("C", String.class, ""));
+        assertEquals(List.of("A -> B", "A and B -> C"), fired);
+    }
+
+    @Test
+    void ruleIsNotFiredAgainUntilItsFactsChange() {
+        AtomicInteger executions = new AtomicInteger();
+        var counter = new RuleBuilder()
+                .name("counter")
+                .given("number", Integer.class, n -> n > 0)
+                .then(facts -> {
+                    executions.incrementAndGet();
+                    facts.put("other", executions.get());
+                })
+                .build();
+
+        Facts facts = new IndexedFacts();
+        facts.put("number", 1);
+
+        new ReteEngine(Rules.of(counter)).fire(facts);
+
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void modifiedFactReactivatesRule() {
+        var coolDown = new RuleBuilder()
+                .name("air conditioning")
+                .given("temperature", Integer.class, t -> t > 25)
+                .then(facts -> facts.updatesIfExists("temperature", Integer.class, t -> t - 1))
+                .build();
+
+        Facts facts = new IndexedFacts();
+        facts.put("temperature", 30);
+
+        new ReteEngine(Rules.of(coolDown)).fire(facts);
+
+        assertEquals(25, facts.get("temperature", Integer.class, -1));
+    }
+
+    @Test
+    void higherPriorityActivationsFireFirst() {
+        Rules rules = Rules.of(
+                namedRule("low", 1),
+                namedRule("high", 10),
+                namedRule("medium", 5)
+        );
+        Facts facts = new IndexedFacts();
+        facts.put("go", true);
+
+        RuleEngine engine = new ReteEngine(rules);
+        engine.register(this);
+        engine.fire(facts);
+
+        assertEquals(List.of("high", "medium", "low"), fired);
+    }
+
+    @Test
+    void networkIsReusedUntilNewRulesArePublished() {
+        RuleEngine engine = new ReteEngine(Rules.of(namedRule("high", 10), namedRule("low", 1)));
+        engine.register(this);
+        Facts facts = new IndexedFacts();
+        facts.put("go", true);
+
+        engine.fire(facts);
+        engine.fire(facts);
+        engine.publish(CompiledRules.of(namedRule("medium", 5)));
+        engine.fire(facts);
+
+        assertEquals(List.of("high", "low", "high", "low", "medium"), fired);
+    }
+
+    @Test
+    void recencyStrategyFiresTheNewestActivationsFirst() {
+        Rules rules = Rules.of(
+                chainedRule("A -> B", "A", "B"),
+                chainedRule("A -> C", "A", "C"),
+                chainedRule("B -> D", "B", "D"),
+                chainedRule("C -> E", "C", "E")
+        );
+        Facts facts = new IndexedFacts();
+        facts.put("A", true);
+
+        var params = ReteEngineParameters.builder().conflictResolution(ConflictResolutionStrategy.RECENCY).build();
+        RuleEngine engine = new ReteEngine(rules, params);
+        engine.register(this);
+        engine.fire(facts);
+
+        assertEquals(List.of("A -> C", "C -> E", "A -> B", "B -> D"), fired);
+    }
+
+    @Test
+    void numericRangesFireExactlyTheRulesContainingTheValue() {
+        Random random = new Random(7);
+        List<NumericCondition> conditions = new ArrayList<>();
+        Rule[] rules = new Rule[300];
+        for (int i = 0; i < rules.length; i++) {
+            double low = random.nextInt(100);
+            NumericCondition condition;
+            switch (i % 4) {
+                case 0:
+                    condition = NumericCondition.greaterThan("amount", low);
+                    break;
+                case 1:
+                    condition = NumericCondition.atMost("amount", low);
+                    break;
+                case 2:
+                    condition = NumericCondition.between("amount", low, low + random.nextInt(20));
+                    break;
+                default:
+                    condition = NumericCondition.between("amount", low, low);
+            }
+            conditions.add(condition);
+            rules[i] = new RuleBuilder().name("range " + i).when(condition).then(facts -> {
+            }).build();
+        }
+        RuleEngine engine = new ReteEngine(new Rules(rules));
+        engine.register(this);
+
+        for (int amount : new int[]{-5, 0, 42, 42, 99, 150}) {
+            fired.clear();
+            Facts facts = new IndexedFacts();
+            facts.put("amount", amount);
+            engine.fire(facts);
+
+            Set<String> expected = new HashSet<>();
+            for (int i = 0; i < rules.length; i++) {
+                if (conditions.get(i).contains(amount)) {
+                    expected.add("range " + i);
+                }
+            }
+            assertEquals(expected, new HashSet<>(fired), "amount " + amount);
+        }
+    }
+
+    @Test
+    void numericRangesFollowTheirFact() {
+        var heating = new RuleBuilder()
+                .name("heating")
+                .when(NumericCondition.lessThan("temperature", 18))
+                .then(facts -> facts.put("temperature", 21))
+                .build();
+        var cooling = new RuleBuilder()
+                .name("cooling")
+                .when(NumericCondition.greaterThan("temperature", 26))
+                .then(facts -> facts.put("temperature", 17))
+                .build();
+        Facts facts = new IndexedFacts();
+        facts.put("temperature", 30);
+
+        RuleEngine engine = new ReteEngine(Rules.of(heating, cooling));
+        engine.register(this);
+        engine.fire(facts);
+
+        assertEquals(List.of("cooling", "heating"), fired);
+        assertEquals(21, facts.get("temperature", Integer.class, -1));
+    }
+
+    @Test
+    void opaqueRulesAreOnlyReactivatedByTheFactsTheyRead() {
+        var countA = new RuleBuilder()
+                .name("count A")
+                .when(facts -> facts.exists("A"))
+                .then(facts -> facts.put("countA", facts.get("countA", Integer.class, 0) + 1))
+                .build();
+        var countB = new RuleBuilder()
+                .name("count B")
+                .when(facts -> facts.get("B").isPresent())
+                .then(facts -> facts.put("countB", facts.get("countB", Integer.class, 0) + 1))
+                .build();
+        Facts facts = new IndexedFacts();
+        facts.put("A", "A");
+        facts.put("B", "B");
+
+        RuleEngine engine = new ReteEngine(Rules.of(countA, countB));
+        engine.register(this);
+        engine.fire(facts);
+
+        assertEquals(List.of("count A", "count B"), fired);
+        assertEquals(1, facts.get("countA", Integer.class, -1));
+        assertEquals(1, facts.get("countB", Integer.class, -1));
+    }
+
+    @Test
+    void stopsAfterMaxActivations() {
+        var endless = new RuleBuilder()
+                .name("endless")
+                .when(facts -> facts.get("counter", Integer.class, 0) >= 0)
+                .then(facts -> facts.put("counter", facts.get("counter", Integer.class, 0) + 1))
+                .build();
+
+        var params = ReteEngineParameters.builder().maxActivations(10).build();
+        RuleEngine engine = new ReteEngine(Rules.of(endless), params);
+        engine.register(this);
+        engine.fire(new IndexedFacts());
+
+        assertEquals(10, fired.size());
+    }
+
+    @Test
+    void stopOnCondition() {
+        var endless = new RuleBuilder()
+                .name("endless")
+                .when(facts -> true)
+                .then(facts -> {
+                    facts.put(UUID.randomUUID().toString(), "C");
+                    facts.put("C", "C");
+                })
+                .build();
+
+        var params = ReteEngineParameters.builder().stopOnCondition(f -> f.exists("C")).build();
+        RuleEngine engine = new ReteEngine(Rules.of(endless), params);
+        engine.register(this);
+        engine.fire(new IndexedFacts());
+
+        assertEquals(1, fired.size());
+    }
+
+    @Test
+    void failuresAreReportedToListeners() {
+        var failsOnCondition = new RuleBuilder()
+                .name("fails on condition")
+                .when(facts -> {
+                    throw new RuntimeException("Failure");
+                })
+                .build();
+        var failsOnAction = new RuleBuilder()
+                .name("fails on action")
+                .given("A")
+                .then(facts -> {
+                    throw new RuntimeException("Failure");
+                })
+                .build();
+        Facts facts = new IndexedFacts();
+        facts.put("A", "A");
+
+        RuleEngine engine = new ReteEngine(Rules.of(failsOnCondition, failsOnAction));
+        engine.register(this);
+        engine.fire(facts);
+
+        assertEquals(1, evaluationFailures.size());
+        assertEquals(1, executionFailures.size());
+    }
+
+    @Test
+    void defaultParameters() {
+        ReteEngine engine = new ReteEngine(Rules.of());
+        assertEquals(ReteEngineParameters.defaultParameters(), engine.getParameters());
+    }
+
+    private static Rule chainedRule(String name, String given, String then) {
+        return new RuleBuilder()
+                .name(name)
+                .given(given)
+                .then(facts -> facts.put(then, true))
+                .build();
+    }
+
+    private static Rule namedRule(String name, int priority) {
+        return new RuleBuilder()
+                .name(name)
+                .priority(priority)
+                .given("go", Boolean.class, Boolean::booleanValue)
+                .then(facts -> {
+                })
+                .build();
+    }
+
+    @Override
+    public void beforeFire(Rule rule) {
+        fired.add(rule.name());
+    }
+
+    @Override
+    public void afterFire(Rule rule) {
+
+    }
+
+    @Override
+    public void evaluationFailed(Rule rule, Facts facts) {
+        evaluationFailures.add(rule);
+    }
+
+    @Override
+    public void executionFailed(Rule rule, Facts facts) {
+        executionFailures.add(rule);
+    }
+}
@@ -0,0 +1,107 @@
+package com.acepero13.research.ruleengine.core;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.core.engines.ForwardChainEngine;
+import com.acepero13.research.ruleengine.core.tracing.RingBufferTracer;
+import com.acepero13.research.ruleengine.core.tracing.TraceEvent;
+import com.acepero13.research.ruleengine.core.tracing.TraceEvent.Outcome;
+import com.acepero13.research.ruleengine.core.tracing.TraceEvent.Phase;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTracerTest {
+
+    private final Rule matching = new RuleBuilder()
+            .name("matching")
+            .priority(2)
+            .when(facts -> true)
+            .then(facts -> facts.put("done", true))
+            .build();
+    private final Rule failing = new RuleBuilder()
+            .name("failing")
+            .priority(1)
+            .when(facts -> {
+                throw new IllegalStateException("Broken condition");
+            })
+            .build();
+
+    @Test
+    void recordsEveryStepOfAFire() {
+        RingBufferTracer tracer = new RingBufferTracer();
+        var engine = new DefaultRuleEngine(new Rules(matching, failing), EngineParameters.builder()
+                .tracer(tracer)
+                .build());
+
+        engine.fire(new InMemoryFacts());
+
+        List<TraceEvent> events = tracer.snapshot();
+        assertEquals(List.of("FIRE STARTED", "EVALUATION MATCHED matching", "EXECUTION SUCCEEDED matching",
+                "EVALUATION FAILED failing", "FIRE FINISHED"), describe(events));
+        assertEquals(1, events.get(4).getCycles());
+        assertTrue(events.stream().allMatch(e -> e.getNanos() >= 0));
+    }
+
+    @Test
+    void keepsOnlyTheLastEvents() {
+        RingBufferTracer tracer = new RingBufferTracer(3, false);
+        for (int i = 0; i < 5; i++) {
+            tracer.record(matching, Phase.EVALUATION, Outcome.MATCHED, i);
+        }
+
+        List<TraceEvent> events = tracer.snapshot();
+        assertEquals(4, tracer.capacity());
+        assertEquals(List.of(1L, 2L, 3L, 4L), events.stream().map(TraceEvent::getNanos).collect(Collectors.toList()));
+        assertEquals(1L, events.get(0).getSequence());
+    }
+
+    @Test
+    void forwardChainReportsItsCycles() {
+        var rule = new RuleBuilder()
+                .name("A -> B")
+                .when(facts -> facts.exists("A") && !facts.exists("B"))
+                .then(facts -> facts.put("B", "B"))
+                .build();
+        RingBufferTracer tracer = new RingBufferTracer();
+        var engine = new ForwardChainEngine(new Rules(rule), ForwardChainEngine.ForwardChainEngineParameters.builder()
+                .considerNewFacts(true)
+                .tracer(tracer)
+                .build());
+        Facts facts = new InMemoryFacts();
+        facts.put("A", "A");
+
+        engine.fire(facts);
+
+        List<TraceEvent> events = tracer.snapshot();
+        assertEquals(List.of("FIRE STARTED", "EVALUATION MATCHED A -> B", "EXECUTION SUCCEEDED A -> B",
+                "EVALUATION NOT_MATCHED A -> B", "FIRE FINISHED"), describe(events));
+        assertEquals(2, events.get(events.size() - 1).getCycles());
+    }
+
+    @Test
+    void dumpsTheBufferAsText() {
+        RingBufferTracer tracer = new RingBufferTracer();
+        tracer.record(matching, Phase.EXECUTION, Outcome.SUCCEEDED, 42);
+
+        List<String> lines = new ArrayList<>();
+        tracer.dump(lines::add);
+
+        assertEquals(List.of("#0 EXECUTION SUCCEEDED 'matching' (42 ns)"), lines);
+    }
+
+    private static List<String> describe(List<TraceEvent> events) {
+        return events.stream()
+                     .map(e -> e.getPhase() + " " + e.getOutcome() + (e.getRule() == null ? "" : " " + e.getRule().name()))
+                     .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,102 @@
+package com.acepero13.research.ruleengine.core;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.core.engines.DefaultRuleEngine;
+import com.acepero13.research.ruleengine.core.engines.EngineParameters;
+import com.acepero13.research.ruleengine.core.engines.ForwardChainEngine;
+import com.acepero13.research.ruleengine.core.engines.SharedCondition;
+import com.acepero13.research.ruleengine.model.ConcurrentFacts;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedConditionTest {
+    private final SharedCondition premium = SharedCondition.of("premium",
+            facts -> facts.get("spent", Integer.class, 0) > 1000);
+
+    @Test
+    void evaluatedOnceForAllTheRulesSharingIt() {
+        List<String> fired = new ArrayList<>();
+        Rules rules = Rules.of(
+                new RuleBuilder().name("discount").priority(3)
+                                 .when(premium.and(facts -> facts.exists("cart")))
+                                 .then(facts -> fired.add("discount")).build(),
+                new RuleBuilder().name("shipping").priority(2)
+                                 .when(premium)
+                                 .then(facts -> fired.add("shipping")).build(),
+                new RuleBuilder().name("survey").priority(1)
+                                 .when(premium.negate().or(facts -> facts.exists("survey")))
+                                 .then(facts -> fired.add("survey")).build());
+        Facts facts = new IndexedFacts();
+        facts.put("spent", 2000);
+        facts.put("cart", "books");
+
+        new DefaultRuleEngine(rules, EngineParameters.builder().build()).fire(facts);
+
+        assertEquals(List.of("discount", "shipping"), fired);
+        assertEquals(1, premium.evaluations());
+        assertEquals(2, premium.reuses());
+    }
+
+    @Test
+    void reevaluatedWhenAFactChanges() {
+        Facts facts = new IndexedFacts();
+        facts.put("spent", 2000);
+        assertTrue(premium.evaluate(facts));
+        assertTrue(premium.evaluate(facts));
+
+        facts.put("spent", 10);
+        assertFalse(premium.evaluate(facts));
+        assertEquals(2, premium.evaluations());
+
+        Facts other = new IndexedFacts();
+        other.put("spent", 2000);
+        assertTrue(premium.evaluate(other));
+        assertEquals(3, premium.evaluations());
+    }
+
+    @Test
+    void sharedOnConcurrentFacts() {
+        Facts facts = new ConcurrentFacts();
+        facts.put("spent", 2000);
+        assertTrue(premium.evaluate(facts));
+        assertTrue(premium.evaluate(facts));
+        assertEquals(1, premium.evaluations());
+
+        facts.put("spent", 10);
+        assertFalse(premium.evaluate(facts));
+        assertEquals(2, premium.evaluations());
+    }
+
+    @Test
+    void memoizedEnginesSeeTheFactsReadByACachedResult() {
+        SharedCondition underLimit = SharedCondition.of("underLimit",
+                facts -> facts.get("counter", Integer.class, 0) < 3);
+        Rules rules = Rules.of(
+                new RuleBuilder().name("first").priority(2)
+                                 .when(underLimit)
+                                 .then(facts -> facts.updatesIfExists("counter", Integer.class, c -> c + 1)).build(),
+                new RuleBuilder().name("second").priority(1)
+                                 .when(underLimit)
+                                 .then(facts -> facts.put("second", facts.get("counter", Integer.class, 0)))
+                                 .build());
+        Facts facts = new InMemoryFacts();
+        facts.put("counter", 0);
+
+        new ForwardChainEngine(rules, ForwardChainEngine.ForwardChainEngineParameters.builder()
+                .considerUpdatesFacts(true)
+                .memoizeConditions(true)
+                .build()).fire(facts);
+
+        // "second" reuses the result "first" computed, and must still be re-evaluated when the counter moves
+        assertEquals(3, facts.get("counter", Integer.class, -1));
+        assertTrue(underLimit.reuses() > 0);
+    }
+}
@@ -0,0 +1,67 @@
+package com.acepero13.research.ruleengine.core.engines.rete;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.agenda.ConflictResolutionStrategy;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReteNetworkTest {
+
+    @Test
+    void rulesWithEqualPatternsShareAlphaNodes() {
+        Rule germanTariff = new RuleBuilder()
+                .name("german tariff")
+                .givenEquals("country", "DE")
+                .then(facts -> facts.put("tariff", 19))
+                .build();
+        Rule germanShipping = new RuleBuilder()
+                .name("german shipping")
+                .givenEquals("country", "DE")
+                .then(facts -> facts.put("shipping", "DHL"))
+                .build();
+        Rule frenchTariff = new RuleBuilder()
+                .name("french tariff")
+                .givenEquals("country", "FR")
+                .then(facts -> facts.put("tariff", 20))
+                .build();
+
+        ReteNetwork network = ReteNetwork.compile(List.of(germanTariff, germanShipping, frenchTariff),
+                (rule, condition, facts) -> condition.evaluate(facts), ConflictResolutionStrategy.SALIENCE);
+
+        assertEquals(2, network.alphaNodeCount());
+        assertEquals(2, network.betaNodeCount());
+    }
+
+    @Test
+    void opaqueConditionsAreOnlyRecheckedWhenAFactTheyReadChanges() {
+        Rule opaque = new RuleBuilder()
+                .name("opaque")
+                .when(facts -> facts.exists("A"))
+                .then(facts -> {
+                })
+                .build();
+        AtomicInteger evaluations = new AtomicInteger();
+        ReteNetwork network = ReteNetwork.compile(List.of(opaque), (rule, condition, facts) -> {
+            evaluations.incrementAndGet();
+            return condition.evaluate(facts);
+        }, ConflictResolutionStrategy.SALIENCE);
+        Facts facts = new IndexedFacts();
+        network.assertAll(facts);
+
+        facts.put("B", "B");
+        network.factChanged("B", facts);
+        assertEquals(1, evaluations.get());
+
+        facts.put("A", "A");
+        network.factChanged("A", facts);
+        assertEquals(2, evaluations.get());
+        assertEquals(opaque, network.nextActivation());
+    }
+}
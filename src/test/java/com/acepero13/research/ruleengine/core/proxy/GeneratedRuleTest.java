@@ -0,0 +1,158 @@
+package com.acepero13.research.ruleengine.core.proxy;
+
+import com.acepero13.research.ruleengine.annotations.Action;
+import com.acepero13.research.ruleengine.annotations.Condition;
+import com.acepero13.research.ruleengine.annotations.Fact;
+import com.acepero13.research.ruleengine.annotations.Rule;
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.model.InMemoryFacts;
+import com.acepero13.research.ruleengine.model.IndexedFacts;
+import com.acepero13.research.ruleengine.model.Rules;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedRuleTest {
+
+    @Test
+    void visibleRulesUseGeneratedAdapters() {
+        var rule = RuleBuilder.of(new FizzRule());
+        assertEquals(GeneratedRuleTest_FizzRuleRuleAdapter.class, rule.getClass());
+        assertEquals("fizz", rule.name());
+        assertEquals("desc \"quoted\"", rule.description());
+        assertEquals(2, rule.priority());
+        assertEquals("fizz Rule", rule.toString());
+    }
+
+    @Test
+    void adaptersOfTheSameRuleAreEqual() {
+        var rule = RuleBuilder.of(new FizzRule());
+        var another = RuleBuilder.of(new FizzRule());
+        assertEquals(rule, another);
+        assertEquals(rule.hashCode(), another.hashCode());
+        assertNotEquals(rule, RuleBuilder.of(new BuzzRule()));
+    }
+
+    @Test
+    void adapterIsEqualToTheEquivalentBuiltRule() {
+        var rule = RuleBuilder.of(new FizzRule());
+        var built = new RuleBuilder()
+                .name("fizz")
+                .priority(2)
+                .description("desc \"quoted\"")
+                .build();
+
+        assertEquals(GeneratedRuleTest_FizzRuleRuleAdapter.class, rule.getClass());
+        assertEquals(built, rule);
+        assertEquals(rule, built);
+        assertEquals(built.hashCode(), rule.hashCode());
+        assertEquals(1, Rules.of(rule, built).size());
+    }
+
+    @Test
+    void adapterBindsFactsAndFactBase() throws Exception {
+        var target = new FizzRule();
+        var rule = RuleBuilder.of(target);
+        Facts facts = new InMemoryFacts();
+        facts.put("number", 14);
+
+        assertTrue(rule.evaluates(facts));
+        rule.execute(facts);
+
+        assertEquals(List.of(14), target.numbers);
+        assertEquals("fizz", facts.get("said", String.class, ""));
+    }
+
+    @Test
+    void missingFactFailsEvaluation() {
+        var rule = RuleBuilder.of(new FizzRule());
+        assertThrows(AnnotationHelper.ArgumentMismatchException.class, () -> rule.evaluates(new InMemoryFacts()));
+    }
+
+    @Test
+    void factOfAnotherTypeFailsEvaluation() {
+        var rule = RuleBuilder.of(new FizzRule());
+        Facts facts = new InMemoryFacts();
+        facts.put("number", "fourteen");
+        assertThrows(AnnotationHelper.ArgumentMismatchException.class, () -> rule.evaluates(facts));
+    }
+
+    @Test
+    void boxedConditionHoldsOnlyWhenTrue() {
+        var rule = RuleBuilder.of(new BuzzRule());
+        Facts facts = new InMemoryFacts();
+        facts.put("number", 10);
+        assertTrue(rule.evaluates(facts));
+
+        facts.put("number", 11);
+        assertFalse(rule.evaluates(facts));
+    }
+
+    @Test
+    void generatedAndCompiledRulesBehaveTheSame() throws Exception {
+        var generated = RuleBuilder.of(new FizzRule());
+        var compiled = AnnotatedRuleCompiler.compile(new FizzRule());
+        Facts facts = new InMemoryFacts();
+        facts.put("number", 21);
+
+        assertNotEquals(generated.getClass(), compiled.getClass());
+        assertEquals(compiled.evaluates(facts), generated.evaluates(facts));
+        assertEquals(compiled.name(), generated.name());
+        assertEquals(compiled.priority(), generated.priority());
+    }
+
+    @Test
+    void primitiveParametersReadPrimitiveFacts() {
+        var generated = RuleBuilder.of(new HotRule());
+        var compiled = AnnotatedRuleCompiler.compile(new HotRule());
+        Facts facts = new IndexedFacts();
+        facts.putDouble("temperature", 31.5);
+
+        assertTrue(generated.evaluates(facts));
+        assertTrue(compiled.evaluates(facts));
+
+        facts.put("temperature", 12.0);
+        assertFalse(generated.evaluates(facts));
+        assertFalse(compiled.evaluates(facts));
+
+        facts.putInt("temperature", 40);
+        assertThrows(AnnotationHelper.ArgumentMismatchException.class, () -> generated.evaluates(facts));
+        assertThrows(AnnotationHelper.ArgumentMismatchException.class, () -> compiled.evaluates(facts));
+    }
+
+    @Rule(name = "fizz", priority = 2, description = "desc \"quoted\"")
+    static class FizzRule {
+        private final List<Integer> numbers = new ArrayList<>();
+
+        @Condition
+        boolean condition(@Fact("number") Integer number) {
+            return number % 7 == 0;
+        }
+
+        @Action
+        void action(@Fact("number") int number, Facts facts) {
+            numbers.add(number);
+            facts.put("said", "fizz");
+        }
+    }
+
+    @Rule(name = "buzz")
+    static class BuzzRule {
+        @Condition
+        Boolean condition(@Fact("number") int number) {
+            return number % 5 == 0;
+        }
+    }
+
+    @Rule(name = "hot")
+    static class HotRule {
+        @Condition
+        boolean condition(@Fact("temperature") double temperature) {
+            return temperature > 30;
+        }
+    }
+}
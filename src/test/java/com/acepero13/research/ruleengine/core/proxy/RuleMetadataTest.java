@@ -0,0 +1,60 @@
+package com.acepero13.research.ruleengine.core.proxy;
+
+import com.acepero13.research.ruleengine.annotations.Action;
+import com.acepero13.research.ruleengine.annotations.Condition;
+import com.acepero13.research.ruleengine.annotations.Fact;
+import com.acepero13.research.ruleengine.annotations.Rule;
+import com.acepero13.research.ruleengine.api.Facts;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleMetadataTest {
+
+    @Test
+    void metadataIsComputedOncePerClass() {
+        assertSame(RuleMetadata.of(TemperatureRule.class), RuleMetadata.of(TemperatureRule.class));
+    }
+
+    @Test
+    void readsRuleAttributes() {
+        RuleMetadata metadata = RuleMetadata.of(TemperatureRule.class);
+        assertEquals("hot", metadata.name());
+        assertEquals(5, metadata.priority());
+        assertEquals("It is hot", metadata.description());
+    }
+
+    @Test
+    void readsConditionAndActionFacts() {
+        RuleMetadata metadata = RuleMetadata.of(TemperatureRule.class);
+        Method condition = metadata.method(Condition.class).orElseThrow();
+        Method action = metadata.method(Action.class).orElseThrow();
+
+        assertEquals(List.of("temperature", "unit"), metadata.factNames(condition));
+        assertEquals(List.of(), metadata.factNames(action));
+    }
+
+    @Test
+    void annotationHelperUsesCachedMethods() {
+        TemperatureRule rule = new TemperatureRule();
+        assertEquals(RuleMetadata.of(TemperatureRule.class).method(Condition.class),
+                AnnotationHelper.getMethodForCalling(rule, Condition.class));
+        assertEquals("hot", AnnotationHelper.getRuleAnnotation(rule).map(Rule::name).orElse(""));
+    }
+
+    @Rule(name = "hot", priority = 5, description = "It is hot")
+    private static class TemperatureRule {
+        @Condition
+        boolean when(@Fact("temperature") int temperature, @Fact("unit") String unit) {
+            return temperature > 25 && "C".equals(unit);
+        }
+
+        @Action
+        void then(Facts facts) {
+            facts.put("hot", true);
+        }
+    }
+}
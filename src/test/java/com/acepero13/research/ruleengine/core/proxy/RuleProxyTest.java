@@ -9,6 +9,7 @@ import com.acepero13.research.ruleengine.model.InMemoryFacts;
 import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -106,6 +107,37 @@ class RuleProxyTest {
         assertEquals(7, numbers.get(0));
     }
 
+    @Test
+    void annotatedRulesAreNotDynamicProxies() {
+        var rule = RuleBuilder.of(new TestRule());
+        assertFalse(Proxy.isProxyClass(rule.getClass()));
+    }
+
+    @Test
+    void bindsFactsAndFactBaseParameters() throws Exception {
+        var rule = RuleBuilder.of(new MixedParamsRule());
+        Facts facts = new InMemoryFacts();
+        facts.put("number", 14);
+        facts.put("other", 21);
+        rule.execute(facts);
+        assertEquals(List.of(14, 21), numbers);
+    }
+
+    @Test
+    void missingFactFailsEvaluation() {
+        var rule = RuleBuilder.of(new TestRule());
+        Facts facts = new InMemoryFacts();
+        assertThrows(AnnotationHelper.ArgumentMismatchException.class, () -> rule.evaluates(facts));
+    }
+
+    @Test
+    void ruleWithoutAnnotationUsesDefaults() {
+        var rule = RuleBuilder.of(new Object());
+        assertEquals(com.acepero13.research.ruleengine.api.Rule.DEFAULT_NAME, rule.name());
+        assertEquals(com.acepero13.research.ruleengine.api.Rule.DEFAULT_PRIORITY, rule.priority());
+        assertFalse(rule.evaluates(new InMemoryFacts()));
+    }
+
     @Rule(name = "fizz", priority = 2, description = "desc")
     private class TestRule {
         @Condition
@@ -134,6 +166,15 @@ class RuleProxyTest {
         }
     }
 
+    @Rule(name = "mixed")
+    private class MixedParamsRule {
+        @Action
+        public void action(@Fact("number") int number, Facts facts) {
+            numbers.add(number);
+            numbers.add(facts.get("other", Integer.class, -1));
+        }
+    }
+
 
     @com.acepero13.research.ruleengine.annotations.Rule(name = "another", priority = 3, description = "desc")
     private class AnotherRule {
@@ -0,0 +1,178 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentFactsTest {
+
+    private final Facts facts = new ConcurrentFacts();
+
+    @Test
+    void addRetrieveAndRemoveFacts() {
+        facts.put("fact1", true);
+        facts.put("fact2", "str");
+        facts.put("fact2", "another");
+
+        assertEquals("another", facts.get("fact2").orElse(""));
+        assertEquals(-1, facts.get("fact2", Integer.class, -1));
+        assertTrue(facts.get("fact1", Boolean.class).orElse(false));
+        assertEquals(2, facts.total());
+
+        facts.remove("fact1");
+        assertFalse(facts.exists("fact1"));
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws Exception {
+        facts.put("counter", 0);
+        int threads = 8;
+        int increments = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < increments; i++) {
+                        facts.updatesIfExists("counter", Integer.class, c -> c + 1);
+                        facts.put("other-" + i, i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * increments, facts.get("counter", Integer.class, -1));
+        assertEquals(increments + 1, facts.total());
+    }
+
+    @Test
+    void notificationsOfAFactArriveInOrder() throws Exception {
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        facts.register(new FactBaseListener() {
+            @Override
+            public <T> void newFactAdded(String name, T value) {
+                seen.add((Integer) value);
+            }
+
+            @Override
+            public <T> void newFactReplaced(String name, T value) {
+                seen.add((Integer) value);
+            }
+        });
+        facts.put("counter", 0);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        facts.updatesIfExists("counter", Integer.class, c -> c + 1);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2001, seen.size());
+        for (int i = 0; i < seen.size(); i++) {
+            assertEquals(i, seen.get(i));
+        }
+    }
+
+    @Test
+    void listenersCanBeRegisteredDuringNotifications() {
+        List<String> added = new ArrayList<>();
+        facts.register(new FactBaseListener() {
+            @Override
+            public <T> void newFactAdded(String name, T value) {
+                added.add(name);
+                facts.register(this);
+            }
+
+            @Override
+            public <T> void newFactReplaced(String name, T value) {
+            }
+        });
+        facts.registerNotificationsFor("f1", op -> facts.registerNotificationsFor("f1", o -> added.add("consumer")));
+
+        facts.put("f1", 1);
+        facts.put("f1", 2);
+
+        assertEquals(List.of("f1", "consumer"), added);
+    }
+
+    @Test
+    void invalidConcurrencyLevel() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentFacts(0));
+    }
+
+    @Test
+    void hugeConcurrencyLevelIsCapped() {
+        Facts facts = new ConcurrentFacts(Integer.MAX_VALUE);
+        facts.put("name", "value");
+        assertEquals("value", facts.get("name", String.class, ""));
+    }
+
+    @Test
+    void changesAreVersioned() {
+        Facts facts = new ConcurrentFacts();
+        facts.put("updated", 1);
+        facts.put("deleted", 1);
+        long since = facts.version();
+
+        facts.put("updated", 1);
+        facts.updatesIfExists("updated", Integer.class, v -> v + 1);
+        facts.remove("deleted");
+        facts.put("created", 1);
+
+        assertEquals(5, facts.version());
+        assertEquals(3, facts.version("updated"));
+        ChangeSet changes = facts.changesSince(since);
+        assertEquals(Set.of("created"), changes.getCreated());
+        assertEquals(Set.of("updated"), changes.getUpdated());
+        assertEquals(Set.of("deleted"), changes.getDeleted());
+        assertEquals(5, changes.getToVersion());
+    }
+
+    @Test
+    void changesSinceOnlyReportsTheLastChangeOfAFact() {
+        Facts facts = new ConcurrentFacts();
+        facts.put("untouched", 1);
+        facts.put("counter", 0);
+        long since = facts.version();
+
+        for (int i = 1; i <= 10; i++) {
+            facts.put("counter", i);
+        }
+        facts.put("created", 1);
+        facts.remove("created");
+
+        ChangeSet changes = facts.changesSince(since);
+        assertEquals(Set.of("counter"), changes.getUpdated());
+        assertTrue(changes.getCreated().isEmpty());
+        assertTrue(changes.getDeleted().isEmpty());
+        assertEquals(Set.of("counter"), facts.changesSince(since + 9).getUpdated());
+        assertTrue(facts.changesSince(facts.version()).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.Facts;
+import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.model.rules.DecisionTable;
+import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionTableTest {
+    private final DecisionTable shipping = DecisionTable.builder()
+                                                        .name("shipping")
+                                                        .columns("country", "tier")
+                                                        .row(facts -> facts.put("cost", 0), "DE", "gold")
+                                                        .row(facts -> facts.put("cost", 5), "DE", DecisionTable.ANY)
+                                                        .row(facts -> facts.put("cost", 1), DecisionTable.ANY, "gold")
+                                                        .row(facts -> facts.put("cost", 20), DecisionTable.ANY, DecisionTable.ANY)
+                                                        .build();
+
+    @Test
+    void firstMatchingRowWins() throws Exception {
+        assertEquals(0, shipping.firstMatch(facts("DE", "gold")));
+        assertEquals(1, shipping.firstMatch(facts("DE", "silver")));
+        assertEquals(2, shipping.firstMatch(facts("FR", "gold")));
+        assertEquals(3, shipping.firstMatch(facts("FR", "silver")));
+
+        Facts facts = facts("ES", "gold");
+        shipping.execute(facts);
+        assertEquals(1, facts.get("cost", Integer.class, -1));
+    }
+
+    @Test
+    void missingFactsOnlyMatchWildcards() {
+        Facts facts = new IndexedFacts();
+        facts.put("tier", "gold");
+        assertEquals(2, shipping.firstMatch(facts));
+
+        DecisionTable strict = DecisionTable.builder()
+                                            .columns("country")
+                                            .row(f -> {
+                                            }, "DE")
+                                            .build();
+        assertFalse(strict.evaluates(facts));
+    }
+
+    @Test
+    void equalityRulesCompileIntoATable() throws Exception {
+        Rules rules = Rules.of(
+                new RuleBuilder().name("gold").priority(10)
+                                 .givenEquals("country", "DE").givenEquals("tier", "gold")
+                                 .then(facts -> facts.put("cost", 0)).build(),
+                new RuleBuilder().name("germany").priority(5)
+                                 .givenEquals("country", "DE")
+                                 .then(facts -> facts.put("cost", 5)).build());
+
+        DecisionTable table = DecisionTable.compile("shipping", rules);
+        Facts facts = facts("DE", "silver");
+        assertTrue(table.evaluates(facts));
+        table.execute(facts);
+
+        assertEquals(5, facts.get("cost", Integer.class, -1));
+        assertEquals(10, table.priority());
+        assertEquals(2, table.rowCount());
+    }
+
+    @Test
+    void rulesWithOpaqueConditionsCannotBeCompiled() {
+        Rule opaque = new RuleBuilder().name("opaque").when(facts -> true).build();
+        assertThrows(IllegalArgumentException.class, () -> DecisionTable.compile("table", Rules.of(opaque)));
+    }
+
+    private static Facts facts(String country, String tier) {
+        Facts facts = new IndexedFacts();
+        facts.put("country", country);
+        facts.put("tier", tier);
+        return facts;
+    }
+}
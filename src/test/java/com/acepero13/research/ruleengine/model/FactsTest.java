@@ -3,6 +3,8 @@ package com.acepero13.research.ruleengine.model;
 import com.acepero13.research.ruleengine.api.Facts;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class FactsTest {
@@ -30,5 +32,23 @@ class FactsTest {
         assertEquals(1, facts.total());
     }
 
-
-}
\ No newline at end of file
+    @Test
+    void putAndAddAreVersioned() {
+        facts.put("a", 1);
+        facts.add(new Fact<>("b", 1));
+        long since = facts.version();
+
+        facts.put("a", 1);
+        facts.add(new Fact<>("b", 2));
+        facts.remove("a");
+        facts.put("c", 1);
+
+        assertEquals(2, since);
+        assertEquals(5, facts.version());
+        assertEquals(3, facts.version("b"));
+        ChangeSet changes = facts.changesSince(since);
+        assertEquals(Set.of("c"), changes.getCreated());
+        assertEquals(Set.of("b"), changes.getUpdated());
+        assertEquals(Set.of("a"), changes.getDeleted());
+    }
+}
@@ -0,0 +1,187 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedFactsTest {
+
+    private final Facts facts = new IndexedFacts();
+
+    @Test
+    void addAndRetrieveFacts() {
+        facts.put("fact1", true);
+        facts.put("fact2", "str");
+        facts.put("fact3", 1);
+
+        assertEquals("str", facts.get("fact2").orElse(""));
+        assertEquals(1, facts.get("fact3", Integer.class, -1));
+        assertTrue(facts.get("fact1", Boolean.class).orElse(false));
+        assertEquals(3, facts.total());
+    }
+
+    @Test
+    void addingTheSameFactReplacesIt() {
+        facts.put("f1", "str");
+        facts.put("f1", "another");
+
+        assertEquals("another", facts.get("f1").orElse(""));
+        assertEquals(1, facts.total());
+    }
+
+    @Test
+    void wrongTypeReturnsDefault() {
+        facts.put("f1", "str");
+
+        assertEquals(-1, facts.get("f1", Integer.class, -1));
+        assertTrue(facts.get("f1", Integer.class).isEmpty());
+    }
+
+    @Test
+    void removeAndExists() {
+        facts.put("f1", "str");
+        assertTrue(facts.exists("f1"));
+
+        facts.remove("f1");
+        assertFalse(facts.exists("f1"));
+        assertTrue(facts.getFact("f1").isEmpty());
+        assertEquals(0, facts.total());
+    }
+
+    @Test
+    void updatesIfExists() {
+        facts.put("counter", 1);
+        facts.updatesIfExists("counter", Integer.class, c -> c + 1);
+        facts.updatesIfExists("missing", Integer.class, c -> c + 1);
+
+        assertEquals(2, facts.get("counter", Integer.class, -1));
+        assertFalse(facts.exists("missing"));
+    }
+
+    @Test
+    void notifiesLikeInMemoryFacts() {
+        List<String> added = new ArrayList<>();
+        List<String> replaced = new ArrayList<>();
+        List<FactsOperation> operations = new ArrayList<>();
+        facts.register(new FactBaseListener() {
+            @Override
+            public <T> void newFactAdded(String name, T value) {
+                added.add(name);
+            }
+
+            @Override
+            public <T> void newFactReplaced(String name, T value) {
+                replaced.add(name);
+            }
+        });
+        facts.registerNotificationsFor("f1", operations::add);
+
+        facts.put("f1", 1);
+        facts.put("f1", 1);
+        facts.put("f1", 2);
+        facts.put("f2", 2);
+
+        assertEquals(List.of("f1", "f2"), added);
+        assertEquals(List.of("f1"), replaced);
+        assertEquals(List.of(FactsOperation.CREATE, FactsOperation.UPDATE), operations);
+    }
+
+    @Test
+    void primitiveFactsAreVisibleThroughTheGenericAccessors() {
+        facts.putInt("count", 3);
+        facts.putLong("id", 42L);
+        facts.putDouble("temperature", 21.5);
+        facts.putBoolean("enabled", true);
+
+        assertEquals(3, facts.getInt("count", -1));
+        assertEquals(42L, facts.getLong("id", -1L));
+        assertEquals(21.5, facts.getDouble("temperature", 0.0));
+        assertTrue(facts.getBoolean("enabled", false));
+        assertEquals(Optional.of(3), facts.get("count", Integer.class));
+        assertEquals(21.5, facts.getFact("temperature").map(Fact::getValue).orElseThrow());
+        assertEquals(4, facts.total());
+    }
+
+    @Test
+    void primitiveAccessorsDoNotConvertBetweenTypes() {
+        facts.putInt("count", 3);
+        facts.put("boxed", 7L);
+
+        assertEquals(-1L, facts.getLong("count", -1L));
+        assertEquals(7L, facts.getLong("boxed", -1L));
+        assertEquals(-1, facts.getInt("missing", -1));
+    }
+
+    @Test
+    void primitiveUpdatesNotifyOnlyOnChange() {
+        List<Object> replaced = new ArrayList<>();
+        List<FactsOperation> operations = new ArrayList<>();
+        facts.register(new FactBaseListener() {
+            @Override
+            public <T> void newFactAdded(String name, T value) {
+            }
+
+            @Override
+            public <T> void newFactReplaced(String name, T value) {
+                replaced.add(value);
+            }
+        });
+        facts.registerNotificationsFor("count", operations::add);
+
+        facts.putInt("count", 1);
+        facts.putInt("count", 1);
+        facts.putInt("count", 2);
+        facts.put("count", 2);
+        facts.putLong("count", 2L);
+
+        assertEquals(List.of(2, 2L), replaced);
+        assertEquals(List.of(FactsOperation.CREATE, FactsOperation.UPDATE, FactsOperation.UPDATE), operations);
+        assertEquals(2L, facts.getLong("count", -1L));
+    }
+
+    @Test
+    void everyChangeBumpsTheVersion() {
+        facts.put("a", 1);
+        facts.putInt("b", 1);
+        long afterCreation = facts.version();
+
+        facts.put("a", 1);
+        facts.putInt("b", 2);
+        facts.remove("missing");
+
+        assertEquals(2, afterCreation);
+        assertEquals(3, facts.version());
+        assertEquals(1, facts.version("a"));
+        assertEquals(3, facts.version("b"));
+        assertEquals(0, facts.version("missing"));
+    }
+
+    @Test
+    void changesSinceReportsCreatedUpdatedAndDeletedFacts() {
+        facts.put("kept", 1);
+        facts.put("updated", 1);
+        facts.put("deleted", 1);
+        long since = facts.version();
+
+        facts.put("updated", 2);
+        facts.remove("deleted");
+        facts.put("created", 1);
+        facts.put("transient", 1);
+        facts.remove("transient");
+
+        ChangeSet changes = facts.changesSince(since);
+        assertEquals(Set.of("created"), changes.getCreated());
+        assertEquals(Set.of("updated"), changes.getUpdated());
+        assertEquals(Set.of("deleted"), changes.getDeleted());
+        assertFalse(changes.contains("kept"));
+        assertEquals(facts.version(), changes.getToVersion());
+        assertTrue(facts.changesSince(facts.version()).isEmpty());
+    }
+}
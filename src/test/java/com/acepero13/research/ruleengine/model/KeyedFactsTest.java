@@ -0,0 +1,106 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedFactsTest {
+    private static final FactKey<Integer> NUMBER = FactKey.of("keyed-number", Integer.class);
+    private static final FactKey<String> NUMBER_AS_STRING = FactKey.of("keyed-number", String.class);
+
+    private final Facts facts = new KeyedFacts();
+
+    @Test
+    void keysWithTheSameNameShareTheirId() {
+        assertEquals(NUMBER.id(), NUMBER_AS_STRING.id());
+        assertEquals(NUMBER, FactKey.of("keyed-number", Integer.class));
+        assertNotEquals(NUMBER, NUMBER_AS_STRING);
+        assertNotEquals(NUMBER.id(), FactKey.of("keyed-other").id());
+    }
+
+    @Test
+    void keyAndNameAccessorsSeeTheSameFacts() {
+        facts.put(NUMBER, 7);
+        facts.put("keyed-said", "fizz");
+
+        assertEquals(7, facts.get("keyed-number", Integer.class, -1));
+        assertEquals(Optional.of("fizz"), facts.get(FactKey.of("keyed-said", String.class)));
+        assertTrue(facts.exists(NUMBER));
+        assertEquals(2, facts.total());
+    }
+
+    @Test
+    void valuesOfAnotherTypeAreMissingForTheKey() {
+        facts.put("keyed-number", "seven");
+
+        assertEquals(Optional.empty(), facts.get(NUMBER));
+        assertEquals(-1, facts.get(NUMBER, -1));
+        assertEquals("seven", facts.get(NUMBER_AS_STRING, ""));
+    }
+
+    @Test
+    void removeAndIterate() {
+        facts.put(NUMBER, 7);
+        facts.put("keyed-said", "fizz");
+        facts.remove("keyed-said");
+        facts.remove("keyed-never-seen");
+
+        Map<String, Object> visible = new HashMap<>();
+        facts.forEach(f -> visible.put(f.name(), f.getValue()));
+        assertEquals(Map.of("keyed-number", 7), visible);
+        assertEquals(1, facts.total());
+        assertFalse(facts.exists("keyed-said"));
+
+        Iterator<Fact<?>> iterator = facts.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(0, facts.total());
+        assertFalse(facts.exists(NUMBER));
+    }
+
+    @Test
+    void notifiesLikeInMemoryFacts() {
+        List<String> added = new ArrayList<>();
+        List<String> replaced = new ArrayList<>();
+        List<FactsOperation> operations = new ArrayList<>();
+        facts.register(new FactBaseListener() {
+            @Override
+            public <T> void newFactAdded(String name, T value) {
+                added.add(name);
+            }
+
+            @Override
+            public <T> void newFactReplaced(String name, T value) {
+                replaced.add(name);
+            }
+        });
+        facts.registerNotificationsFor("keyed-number", operations::add);
+
+        facts.put(NUMBER, 1);
+        facts.put("keyed-number", 1);
+        facts.put(NUMBER, 2);
+        facts.updatesIfExists("keyed-number", Integer.class, n -> n + 1);
+
+        assertEquals(List.of("keyed-number"), added);
+        assertEquals(List.of("keyed-number", "keyed-number"), replaced);
+        assertEquals(List.of(FactsOperation.CREATE, FactsOperation.UPDATE, FactsOperation.UPDATE), operations);
+        assertEquals(3, facts.get(NUMBER, -1));
+    }
+
+    @Test
+    void keyedWritesAreVersioned() {
+        facts.put(NUMBER, 7);
+        long since = facts.version();
+        facts.put(NUMBER, 8);
+        facts.put("keyed-said", "fizz");
+
+        ChangeSet changes = facts.changesSince(since);
+        assertEquals(Set.of("keyed-number"), changes.getUpdated());
+        assertEquals(Set.of("keyed-said"), changes.getCreated());
+        assertEquals(facts.version(), facts.version("keyed-said"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.acepero13.research.ruleengine.model;
+
+import com.acepero13.research.ruleengine.api.FactBaseListener;
+import com.acepero13.research.ruleengine.api.Facts;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayeredFactsTest {
+
+    private final FrozenFacts base = FrozenFacts.of(Map.of("tariff", 10, "threshold", 25, "country", "DE"));
+    private final Facts facts = new LayeredFacts(base);
+
+    @Test
+    void readsFallThroughToTheBase() {
+        facts.put("temperature", 30);
+
+        assertEquals(10, facts.get("tariff", Integer.class, -1));
+        assertEquals(30, facts.get("temperature", Integer.class, -1));
+        assertTrue(facts.exists("country"));
+        assertEquals(4, facts.total());
+    }
+
+    @Test
+    void writesStayLocal() {
+        facts.put("tariff", 12);
+        facts.updatesIfExists("threshold", Integer.class, t -> t + 1);
+
+        assertEquals(12, facts.get("tariff", Integer.class, -1));
+        assertEquals(26, facts.get("threshold", Integer.class, -1));
+        assertEquals(10, base.get("tariff", Integer.class, -1));
+        assertEquals(25, base.get("threshold", Integer.class, -1));
+        assertEquals(3, facts.total());
+    }
+
+    @Test
+    void removedBaseFactsAreHidden() {
+        facts.remove("country");
+        facts.put("tariff", 12);
+        facts.remove("tariff");
+
+        assertFalse(facts.exists("country"));
+        assertTrue(facts.get("tariff").isEmpty());
+        assertEquals(1, facts.total());
+        assertTrue(base.exists("country"));
+
+        facts.put("country", "ES");
+        assertEquals("ES", facts.get("country", String.class, ""));
+        assertEquals(2, facts.total());
+    }
+
+    @Test
+    void iterationShowsTheVisibleFacts() {
+        facts.put("tariff", 12);
+        facts.put("temperature", 30);
+        facts.remove("country");
+
+        Map<String, Object> visible = new HashMap<>();
+        for (Fact<?> fact : facts) {
+            assertNull(visible.put(fact.name(), fact.getValue()), "Duplicated fact " + fact.name());
+        }
+
+        assertEquals(Map.of("tariff", 12, "threshold", 25, "temperature", 30), visible);
+        assertEquals(visible.size(), facts.total());
+    }
+
+    @Test
+    void baseFactsCountAsExistingForNotifications() {
+        List<String> added = new ArrayList<>();
+        List<String> replaced = new ArrayList<>();
+        facts.register(new FactBaseListener() {
+            @Override
+            public <T> void newFactAdded(String name, T value) {
+                added.add(name);
+            }
+
+            @Override
+            public <T> void newFactReplaced(String name, T value) {
+                replaced.add(name);
+            }
+        });
+
+        facts.put("tariff", 10);
+        facts.put("tariff", 11);
+        facts.put("temperature", 30);
+
+        assertEquals(List.of("temperature"), added);
+        assertEquals(List.of("tariff"), replaced);
+    }
+
+    @Test
+    void frozenFactsCannotBeModified() {
+        Facts source = new InMemoryFacts();
+        source.put("a", 1);
+        FrozenFacts frozen = FrozenFacts.copyOf(source);
+        source.put("b", 2);
+
+        assertEquals(1, frozen.total());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.put("a", 2));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.updatesIfExists("a", Integer.class, a -> a + 1));
+    }
+
+    @Test
+    void localChangesAreVersionedAfterTheBase() {
+        IndexedFacts versioned = new IndexedFacts();
+        versioned.put("tariff", 10);
+        versioned.put("country", "DE");
+        LayeredFacts layered = new LayeredFacts(versioned);
+
+        layered.put("tariff", 12);
+        layered.remove("country");
+        layered.put("customer", "acme");
+
+        assertEquals(5, layered.version());
+        assertEquals(3, layered.version("tariff"));
+        assertEquals(0, new LayeredFacts(base).version("tariff"));
+        ChangeSet local = layered.changesSince(2);
+        assertEquals(Set.of("customer"), local.getCreated());
+        assertEquals(Set.of("tariff"), local.getUpdated());
+        assertEquals(Set.of("country"), local.getDeleted());
+        // "tariff" was created in the base within the range
+        ChangeSet all = layered.changesSince(0);
+        assertEquals(Set.of("tariff", "customer"), all.getCreated());
+        assertTrue(all.getUpdated().isEmpty());
+        assertTrue(all.getDeleted().isEmpty());
+    }
+}
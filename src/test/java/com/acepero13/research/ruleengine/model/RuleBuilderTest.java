@@ -2,10 +2,14 @@ package com.acepero13.research.ruleengine.model;
 
 import com.acepero13.research.ruleengine.api.Facts;
 import com.acepero13.research.ruleengine.api.Rule;
+import com.acepero13.research.ruleengine.core.engines.rete.ReteEngine;
+import com.acepero13.research.ruleengine.model.rules.NumericCondition;
+import com.acepero13.research.ruleengine.model.rules.PatternRule;
 import com.acepero13.research.ruleengine.model.rules.RuleBuilder;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RuleBuilderTest {
@@ -30,4 +34,66 @@ class RuleBuilderTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void ruleWithoutPatternsNorConditionNeverFires() {
+        Rule rule = new RuleBuilder()
+                .name("Unconditional")
+                .then(facts -> facts.put("fired", true))
+                .build();
+        Facts realFacts = new InMemoryFacts();
+        realFacts.put("test", 1);
+
+        assertFalse(rule.evaluates(realFacts));
+        new ReteEngine(Rules.of(rule)).fire(realFacts);
+        assertFalse(realFacts.exists("fired"));
+    }
+
+    @Test
+    void patternsMustMatchBeforeCondition() {
+        Rule rule = new RuleBuilder()
+                .name("PatternRule")
+                .given("test", Integer.class, t -> t > 0)
+                .when(facts -> facts.exists("other"))
+                .build();
+
+        Facts realFacts = new InMemoryFacts();
+        realFacts.put("other", true);
+        assertFalse(rule.evaluates(realFacts));
+
+        realFacts.put("test", 1);
+        assertTrue(rule.evaluates(realFacts));
+    }
+
+    @Test
+    void patternsCanUseFactKeys() {
+        FactKey<Integer> test = FactKey.of("test", Integer.class);
+        Rule rule = new RuleBuilder()
+                .name("KeyedPatternRule")
+                .given(test, t -> t > 0)
+                .when(facts -> facts.get(test, 0) < 10)
+                .build();
+
+        Facts realFacts = new KeyedFacts();
+        realFacts.put(test, 0);
+        assertFalse(rule.evaluates(realFacts));
+
+        realFacts.put("test", 5);
+        assertTrue(rule.evaluates(realFacts));
+    }
+
+    @Test
+    void numericConditionsBecomePatterns() {
+        Rule rule = new RuleBuilder()
+                .when(NumericCondition.between("amount", 100, 500))
+                .when(NumericCondition.greaterThan("age", 17))
+                .build();
+        Facts facts = new InMemoryFacts();
+        facts.put("amount", 100L);
+        facts.put("age", 18);
+
+        assertEquals(2, ((PatternRule) rule).patterns().size());
+        assertTrue(rule.evaluates(facts));
+        facts.put("amount", 500.5);
+        assertFalse(rule.evaluates(facts));
+    }
+}
@@ -22,6 +22,76 @@ class RulesTest {
         assertEquals(List.of("r3", "r2", "r1"), actual);
     }
 
+    @Test
+    void snapshotIsOnlyRebuiltWhenRulesChange() {
+        Rules rules = Rules.of(createRule(1, "r1"), createRule(3, "r3"));
+        List<Rule> snapshot = rules.sorted();
+
+        assertSame(snapshot, rules.sorted());
+        rules.register(snapshot.get(0));
+        assertSame(snapshot, rules.sorted());
+
+        rules.register(createRule(2, "r2"));
+        assertNotSame(snapshot, rules.sorted());
+        assertEquals(List.of("r3", "r1"), names(snapshot));
+        assertEquals(List.of("r3", "r2", "r1"), names(rules.sorted()));
+        assertThrows(UnsupportedOperationException.class, () -> rules.sorted().remove(0));
+    }
+
+    @Test
+    void equalPrioritiesKeepRegistrationOrder() {
+        Rules rules = Rules.of(createRule(1, "a"), createRule(5, "b"), createRule(1, "c"), createRule(5, "d"));
+        assertEquals(List.of("b", "d", "a", "c"), names(rules.sorted()));
+    }
+
+    @Test
+    void rangeByPriority() {
+        Rules rules = Rules.of(createRule(1, "r1"), createRule(2, "r2"), createRule(2, "r2'"), createRule(3, "r3"));
+
+        assertEquals(List.of("r3", "r2", "r2'"), names(rules.withPriorityAtLeast(2)));
+        assertEquals(List.of("r3"), names(rules.withPriorityAtLeast(3)));
+        assertTrue(rules.withPriorityAtLeast(4).isEmpty());
+        assertEquals(4, rules.withPriorityAtLeast(Integer.MIN_VALUE).size());
+        assertEquals(4, rules.size());
+    }
+
+    @Test
+    void compiledVersionsAreImmutable() {
+        Rules rules = Rules.of(createRule(1, "a"), createRule(5, "b"));
+        CompiledRules first = rules.compile();
+
+        rules.register(createRule(1, "c"));
+        CompiledRules second = rules.compile();
+
+        assertEquals(List.of("b", "a"), names(first.sorted()));
+        assertEquals(List.of("b", "a", "c"), names(second.sorted()));
+        assertTrue(second.version() > first.version());
+        assertSame(second, rules.compile());
+        assertSame(second, second.with(second.sorted().get(0)));
+        assertEquals(List.of("b", "a"), names(Rules.from(first).sorted()));
+    }
+
+    @Test
+    void registerManyAtOnce() {
+        Rule a = createRule(1, "a");
+        Rules rules = Rules.of(a, createRule(5, "b"));
+        CompiledRules before = rules.compile();
+
+        rules.register(List.of(createRule(1, "c"), a, createRule(5, "d"), createRule(3, "e"), createRule(1, "c")));
+
+        assertEquals(List.of("b", "d", "e", "a", "c"), names(rules.sorted()));
+        assertEquals(List.of("b", "a"), names(before.sorted()));
+        assertTrue(rules.compile().version() > before.version());
+        CompiledRules after = rules.compile();
+        assertSame(after, rules.register(List.of(a)).compile());
+    }
+
+    private static List<String> names(List<Rule> rules) {
+        List<String> names = new ArrayList<>();
+        rules.forEach(r -> names.add(r.name()));
+        return names;
+    }
+
 
     private static Rule createRule(int prio, String name) {
         return new RuleBuilder()